@@ -0,0 +1,58 @@
+package com.example.qareactive.benchmark;
+
+import com.example.qareactive.errorhandling.AppErrorAttributes;
+import com.example.qareactive.exception.DeveloperNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.error.ErrorAttributeOptions;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppErrorAttributesBenchmark {
+
+    private AppErrorAttributes errorAttributes;
+    private ServerRequest apiErrorRequest;
+    private ServerRequest internalErrorRequest;
+
+    @Setup
+    public void setUp() {
+        errorAttributes = new AppErrorAttributes();
+        apiErrorRequest = request(new DeveloperNotFoundException("Developer not found", "DEVELOPER_NOT_FOUND"));
+        internalErrorRequest = request(new IllegalStateException("Connection refused"));
+    }
+
+    private ServerRequest request(Throwable error) {
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/developers/1"));
+        errorAttributes.storeErrorInformation(error, exchange);
+        return ServerRequest.create(exchange, HandlerStrategies.withDefaults().messageReaders());
+    }
+
+    @Benchmark
+    public Map<String, Object> apiError() {
+        return errorAttributes.getErrorAttributes(apiErrorRequest, ErrorAttributeOptions.defaults());
+    }
+
+    @Benchmark
+    public Map<String, Object> internalError() {
+        return errorAttributes.getErrorAttributes(internalErrorRequest, ErrorAttributeOptions.defaults());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.qareactive.benchmark;
+
+import com.example.qareactive.dto.DeveloperDto;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeveloperDtoBenchmark {
+
+    private DeveloperEntity entity;
+    private DeveloperDto dto;
+    private DeveloperDto partialDto;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        entity = StubDeveloperService.developer(1);
+        dto = DeveloperDto.fromEntity(entity);
+        partialDto = DeveloperDto.builder()
+                .id(1)
+                .email("john.doe@mail.com")
+                .build();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public DeveloperDto fromEntity() {
+        return DeveloperDto.fromEntity(entity);
+    }
+
+    @Benchmark
+    public DeveloperEntity toEntity() {
+        return dto.toEntity();
+    }
+
+    @Benchmark
+    public byte[] serializeDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] serializePartialDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(partialDto);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.qareactive.benchmark;
+
+import com.example.qareactive.config.DeveloperChangesProperties;
+import com.example.qareactive.config.DeveloperPaginationProperties;
+import com.example.qareactive.errorhandling.AppErrorAttributes;
+import com.example.qareactive.rest.DeveloperRestControllerV1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeveloperHandlerChainBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private WebTestClient webTestClient;
+
+    @Setup
+    public void setUp() {
+        var controller = new DeveloperRestControllerV1(new StubDeveloperService(PAGE_SIZE),
+                new DeveloperPaginationProperties(), new DeveloperChangesProperties(), new AppErrorAttributes());
+        webTestClient = WebTestClient.bindToController(controller).build();
+    }
+
+    @Benchmark
+    public byte[] getById() {
+        return webTestClient.get()
+                .uri("/api/v1/developers/1")
+                .exchange()
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    @Benchmark
+    public byte[] getPage() {
+        return webTestClient.get()
+                .uri("/api/v1/developers?limit=" + PAGE_SIZE)
+                .exchange()
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    @Benchmark
+    public byte[] streamAll() {
+        return webTestClient.get()
+                .uri("/api/v1/developers")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.qareactive.benchmark;
+
+import com.example.qareactive.codec.DeveloperDtoEncoder;
+import com.example.qareactive.codec.DeveloperJson;
+import com.example.qareactive.dto.DeveloperDto;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.entity.Status;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// run with -prof gc and compare gc.alloc.rate.norm: each invocation encodes one row into a pooled buffer
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeveloperJsonBenchmark {
+
+    private static final ResolvableType DEVELOPER_TYPE = ResolvableType.forClass(DeveloperDto.class);
+
+    private Row row;
+    private DeveloperDto dto;
+    private NettyDataBufferFactory bufferFactory;
+    private Jackson2JsonEncoder jacksonEncoder;
+    private DeveloperDtoEncoder developerEncoder;
+
+    @Setup
+    public void setUp() {
+        var developer = StubDeveloperService.developer(1);
+        row = new StubRow(developer.getId(), developer.getFirstName(), developer.getLastName(),
+                developer.getEmail(), developer.getSpecialty(), developer.getStatus().name());
+        dto = DeveloperDto.fromEntity(developer);
+        bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        jacksonEncoder = new Jackson2JsonEncoder(Jackson2ObjectMapperBuilder.json().build());
+        developerEncoder = new DeveloperDtoEncoder();
+    }
+
+    // the previous streaming path: row to entity to dto, then Jackson
+    @Benchmark
+    public int jacksonRow() {
+        var entity = DeveloperEntity.builder()
+                .id(row.get(0, Integer.class))
+                .firstName(row.get(1, String.class))
+                .lastName(row.get(2, String.class))
+                .email(row.get(3, String.class))
+                .specialty(row.get(4, String.class))
+                .status(Status.valueOf(row.get(5, String.class)))
+                .build();
+        return release(jacksonEncoder.encodeValue(DeveloperDto.fromEntity(entity), bufferFactory, DEVELOPER_TYPE,
+                MediaType.APPLICATION_NDJSON, null));
+    }
+
+    @Benchmark
+    public int directRow() {
+        return release(DeveloperJson.toNdjson(bufferFactory, row));
+    }
+
+    @Benchmark
+    public int jacksonDto() {
+        return release(jacksonEncoder.encodeValue(dto, bufferFactory, DEVELOPER_TYPE, MediaType.APPLICATION_JSON, null));
+    }
+
+    @Benchmark
+    public int directDto() {
+        return release(developerEncoder.encodeValue(dto, bufferFactory, DEVELOPER_TYPE, MediaType.APPLICATION_JSON, null));
+    }
+
+    private static int release(DataBuffer buffer) {
+        int bytes = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    // reads by index, by name and through the metadata all resolve against DeveloperJson.COLUMNS and one values array
+    private record StubRow(Object... values) implements Row, RowMetadata {
+
+        private static final List<String> COLUMNS = List.of(DeveloperJson.COLUMNS.split(", "));
+
+        @Override
+        public <T> T get(int index, Class<T> type) {
+            return type.cast(values[index]);
+        }
+
+        @Override
+        public <T> T get(String name, Class<T> type) {
+            return get(indexOf(name), type);
+        }
+
+        @Override
+        public RowMetadata getMetadata() {
+            return this;
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(int index) {
+            return new StubColumn(COLUMNS.get(index), values[index] instanceof Integer ? R2dbcType.INTEGER : R2dbcType.VARCHAR);
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(String name) {
+            return getColumnMetadata(indexOf(name));
+        }
+
+        @Override
+        public List<? extends ColumnMetadata> getColumnMetadatas() {
+            return IntStream.range(0, values.length).mapToObj(this::getColumnMetadata).toList();
+        }
+
+        @Override
+        public boolean contains(String name) {
+            return COLUMNS.contains(name);
+        }
+
+        private static int indexOf(String name) {
+            int index = COLUMNS.indexOf(name);
+            if (index < 0) {
+                throw new NoSuchElementException("Unknown column " + name);
+            }
+            return index;
+        }
+    }
+
+    private record StubColumn(String name, Type type) implements ColumnMetadata {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Type getType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.qareactive.benchmark;
+
+import com.example.qareactive.errorhandling.AppErrorAttributes;
+import com.example.qareactive.exception.DeveloperNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.web.error.ErrorAttributeOptions;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private AppErrorAttributes errorAttributes;
+    private MockServerWebExchange exchange;
+    private ServerRequest request;
+
+    @Setup
+    public void setUp() {
+        errorAttributes = new AppErrorAttributes();
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/developers/1"));
+        request = ServerRequest.create(exchange, HandlerStrategies.withDefaults().messageReaders());
+    }
+
+    @Benchmark
+    public void allocatedNotFound(Blackhole blackhole) {
+        var error = new DeveloperNotFoundException("Developer not found", "DEVELOPER_NOT_FOUND");
+        errorAttributes.storeErrorInformation(error, exchange);
+        var attributes = errorAttributes.getErrorAttributes(request, ErrorAttributeOptions.defaults());
+        blackhole.consume(Integer.parseInt(attributes.get("status").toString()));
+        blackhole.consume(attributes.get("errors"));
+    }
+
+    @Benchmark
+    public void preallocatedNotFound(Blackhole blackhole) {
+        var error = DeveloperNotFoundException.INSTANCE;
+        errorAttributes.storeErrorInformation(error, exchange);
+        blackhole.consume(errorAttributes.getStatus(errorAttributes.getError(request)));
+        blackhole.consume(errorAttributes.getSerializedErrorBody(error));
+    }
+
+    @Benchmark
+    public Throwable stackTraceException() {
+        return new IllegalStateException("Developer not found");
+    }
+
+    @Benchmark
+    public Throwable stacklessApiException() {
+        return new DeveloperNotFoundException("Developer not found", "DEVELOPER_NOT_FOUND");
+    }
+}
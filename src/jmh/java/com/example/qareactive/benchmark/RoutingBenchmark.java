@@ -0,0 +1,103 @@
+package com.example.qareactive.benchmark;
+
+import com.example.qareactive.config.DeveloperChangesProperties;
+import com.example.qareactive.config.DeveloperPaginationProperties;
+import com.example.qareactive.dto.DeveloperDto;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.errorhandling.AppErrorAttributes;
+import com.example.qareactive.rest.DeveloperHandlerV1;
+import com.example.qareactive.rest.DeveloperRestControllerV1;
+import com.example.qareactive.rest.DeveloperRouterV1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int pageSize;
+
+    private WebTestClient annotated;
+    private WebTestClient functional;
+    private List<DeveloperEntity> developers;
+
+    @Setup
+    public void setUp() {
+        var developerService = new StubDeveloperService(pageSize);
+        var paginationProperties = new DeveloperPaginationProperties();
+        var appErrorAttributes = new AppErrorAttributes();
+        annotated = WebTestClient.bindToController(
+                new DeveloperRestControllerV1(developerService, paginationProperties, new DeveloperChangesProperties(), appErrorAttributes)).build();
+        functional = WebTestClient.bindToRouterFunction(new DeveloperRouterV1().developerRoutes(
+                new DeveloperHandlerV1(developerService, paginationProperties, new DeveloperChangesProperties(), appErrorAttributes))).build();
+        developers = IntStream.rangeClosed(1, pageSize)
+                .mapToObj(StubDeveloperService::developer)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] annotatedGetById() {
+        return get(annotated, "/api/v1/developers/1");
+    }
+
+    @Benchmark
+    public byte[] functionalGetById() {
+        return get(functional, "/api/v1/developers/1");
+    }
+
+    @Benchmark
+    public byte[] annotatedGetPage() {
+        return get(annotated, "/api/v1/developers?limit=" + pageSize);
+    }
+
+    @Benchmark
+    public byte[] functionalGetPage() {
+        return get(functional, "/api/v1/developers?limit=" + pageSize);
+    }
+
+    @Benchmark
+    public List<DeveloperDto> flatMapPerElement() {
+        return Flux.fromIterable(developers)
+                .flatMap(developer -> Mono.just(DeveloperDto.fromEntity(developer)))
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public List<DeveloperDto> mapPerElement() {
+        return Flux.fromIterable(developers)
+                .map(DeveloperDto::fromEntity)
+                .collectList()
+                .block();
+    }
+
+    private static byte[] get(WebTestClient webTestClient, String uri) {
+        return webTestClient.get()
+                .uri(uri)
+                .exchange()
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
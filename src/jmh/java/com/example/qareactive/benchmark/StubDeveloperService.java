@@ -0,0 +1,131 @@
+package com.example.qareactive.benchmark;
+
+import com.example.qareactive.codec.DeveloperJson;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.entity.Status;
+import com.example.qareactive.notification.DeveloperChangeEvent;
+import com.example.qareactive.repository.DeveloperSearchResult;
+import com.example.qareactive.repository.DeveloperSpecialtyStats;
+import com.example.qareactive.service.DeveloperBatchItem;
+import com.example.qareactive.service.DeveloperService;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class StubDeveloperService implements DeveloperService {
+
+    private final DeveloperEntity developer;
+    private final List<DeveloperEntity> developers;
+
+    public StubDeveloperService(int size) {
+        this.developers = IntStream.rangeClosed(1, size)
+                .mapToObj(StubDeveloperService::developer)
+                .toList();
+        this.developer = developers.get(0);
+    }
+
+    public static DeveloperEntity developer(int id) {
+        return DeveloperEntity.builder()
+                .id(id)
+                .firstName("John" + id)
+                .lastName("Doe" + id)
+                .email("john.doe" + id + "@mail.com")
+                .specialty("Java")
+                .status(Status.ACTIVE)
+                .version(1L)
+                .build();
+    }
+
+    @Override
+    public Mono<DeveloperEntity> createDeveloper(DeveloperEntity developer) {
+        return Mono.just(this.developer);
+    }
+
+    @Override
+    public Flux<DeveloperBatchItem> createDevelopers(Flux<DeveloperEntity> developers) {
+        return developers.index()
+                .map(item -> DeveloperBatchItem.success(item.getT1(), developer));
+    }
+
+    @Override
+    public Mono<DeveloperEntity> updateDeveloper(DeveloperEntity developer) {
+        return Mono.just(this.developer);
+    }
+
+    @Override
+    public Mono<DeveloperEntity> patchDeveloper(Integer id, DeveloperEntity changes, Long expectedVersion) {
+        return Mono.just(developer);
+    }
+
+    @Override
+    public Flux<DeveloperEntity> getAll(int afterId, int limit) {
+        return Flux.fromIterable(developers).take(limit);
+    }
+
+    @Override
+    public Flux<DataBuffer> streamAllNdjson(DataBufferFactory bufferFactory) {
+        return Flux.fromIterable(developers)
+                .map(developer -> DeveloperJson.toNdjson(bufferFactory, developer));
+    }
+
+    @Override
+    public Flux<DataBuffer> exportCsv() {
+        return Flux.fromIterable(developers)
+                .map(developer -> DefaultDataBufferFactory.sharedInstance.wrap((developer.getId() + "," + developer.getEmail() + "\n")
+                        .getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public Mono<Long> importCsv(Flux<DataBuffer> csv) {
+        return csv.doOnNext(DataBufferUtils::release).count();
+    }
+
+    @Override
+    public Flux<DeveloperEntity> findAllActiveBySpecialty(String specialty, int afterId, int limit) {
+        return Flux.fromIterable(developers).take(limit);
+    }
+
+    @Override
+    public Flux<DeveloperSearchResult> search(String query, float afterRank, int afterId, int limit) {
+        return Flux.fromIterable(developers)
+                .take(limit)
+                .map(developer -> new DeveloperSearchResult(developer, 1.0f));
+    }
+
+    @Override
+    public Flux<DeveloperSpecialtyStats> getSpecialtyStats(Status status) {
+        return Flux.just(new DeveloperSpecialtyStats("Java", Status.ACTIVE.name(), developers.size()));
+    }
+
+    @Override
+    public Mono<DeveloperEntity> getById(Integer id) {
+        return Mono.just(developer);
+    }
+
+    @Override
+    public Mono<Void> softDeleteById(Integer id) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> hardDeleteById(Integer id) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<DeveloperEntity> restoreById(Integer id) {
+        return Mono.just(developer);
+    }
+
+    @Override
+    public Flux<DeveloperChangeEvent> getChanges() {
+        return Flux.never();
+    }
+}
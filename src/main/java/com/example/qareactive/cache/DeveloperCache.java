@@ -0,0 +1,90 @@
+package com.example.qareactive.cache;
+
+import com.example.qareactive.config.DeveloperCacheProperties;
+import com.example.qareactive.deadline.QueryCancellation;
+import com.example.qareactive.deadline.SharedQueryCancellation;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+@Component
+public class DeveloperCache {
+
+    // stands in for a developer deleted by this instance, so a lagging replica cannot bring the row back
+    private static final DeveloperEntity DELETED = new DeveloperEntity();
+
+    private final boolean enabled;
+    private final AsyncCache<Integer, DeveloperEntity> cache;
+
+    public DeveloperCache(DeveloperCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "developers");
+    }
+
+    public Mono<DeveloperEntity> get(Integer id, Function<Integer, Mono<DeveloperEntity>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        // concurrent misses for the same id share one future, so only the first one queries the database;
+        // the load is cancelled only when every caller sharing it has given up
+        return Mono.deferContextual(context -> {
+                    var future = cache.get(id, (key, executor) -> load(key, loader));
+                    if (future instanceof PendingLoad pendingLoad && !pendingLoad.isDone()
+                            && !pendingLoad.waiters().join(QueryCancellation.from(context))) {
+                        return loader.apply(id);
+                    }
+                    return Mono.fromFuture(future, true);
+                })
+                .filter(developer -> developer != DELETED);
+    }
+
+    public void put(DeveloperEntity developer) {
+        if (enabled) {
+            cache.put(developer.getId(), CompletableFuture.completedFuture(developer));
+        }
+    }
+
+    // writes go to the primary, so their result is cached instead of being reloaded from a replica that may lag behind
+    public void putDeleted(Integer id) {
+        if (enabled) {
+            cache.put(id, CompletableFuture.completedFuture(DELETED));
+        }
+    }
+
+    public void invalidate(Integer id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    private static PendingLoad load(Integer id, Function<Integer, Mono<DeveloperEntity>> loader) {
+        var pendingLoad = new PendingLoad(new SharedQueryCancellation());
+        loader.apply(id)
+                .contextWrite(QueryCancellation.with(pendingLoad.waiters().cancellation()))
+                .subscribe(pendingLoad::complete, pendingLoad::completeExceptionally, () -> pendingLoad.complete(null));
+        return pendingLoad;
+    }
+
+    private static final class PendingLoad extends CompletableFuture<DeveloperEntity> {
+
+        private final SharedQueryCancellation waiters;
+
+        private PendingLoad(SharedQueryCancellation waiters) {
+            this.waiters = waiters;
+        }
+
+        SharedQueryCancellation waiters() {
+            return waiters;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.qareactive.codec;
+
+import com.example.qareactive.dto.DeveloperDto;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class DeveloperDtoEncoder extends AbstractEncoder<Object> implements HttpMessageEncoder<Object> {
+
+    private static final byte[] NONE = {};
+    private static final byte[] START_ARRAY = {'['};
+    private static final byte[] SEPARATOR = {','};
+    private static final byte[] END_ARRAY = {']'};
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+    private static final byte[] NEWLINE = {'\n'};
+
+    public DeveloperDtoEncoder() {
+        super(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        if (!super.canEncode(elementType, mimeType) || !isUtf8(mimeType)) {
+            return false;
+        }
+        var type = elementType.toClass();
+        if (Collection.class.isAssignableFrom(type)) {
+            var element = elementType.asCollection().resolveGeneric(0);
+            return element != null && DeveloperDto.class.isAssignableFrom(element);
+        }
+        return DeveloperDto.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public List<MediaType> getStreamingMediaTypes() {
+        return List.of(MediaType.APPLICATION_NDJSON);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono) {
+            return Mono.from(inputStream)
+                    .map(value -> encode(value, bufferFactory, NONE, NONE))
+                    .flux();
+        }
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(mimeType)) {
+            return Flux.from(inputStream)
+                    .map(value -> encode(value, bufferFactory, NONE, NEWLINE));
+        }
+        // same framing as Jackson for a non-streaming Flux: elements are written as they arrive inside one JSON array
+        return Flux.defer(() -> {
+            var started = new AtomicBoolean();
+            return Flux.from(inputStream)
+                    .map(value -> encode(value, bufferFactory, started.getAndSet(true) ? SEPARATOR : START_ARRAY, NONE))
+                    .concatWith(Mono.fromCallable(() -> bufferFactory.wrap(started.get() ? END_ARRAY : EMPTY_ARRAY)));
+        });
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  MimeType mimeType, Map<String, Object> hints) {
+        return encode(value, bufferFactory, NONE, NONE);
+    }
+
+    private static DataBuffer encode(Object value, DataBufferFactory bufferFactory, byte[] prefix, byte[] suffix) {
+        var rows = value instanceof Collection<?> developers ? developers.size() : 1;
+        var buffer = bufferFactory.allocateBuffer(rows * DeveloperJson.ROW_CAPACITY);
+        try {
+            buffer.write(prefix);
+            if (value instanceof Collection<?> developers) {
+                writeArray(buffer, developers);
+            } else {
+                DeveloperJson.write(buffer, (DeveloperDto) value);
+            }
+            return buffer.write(suffix);
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+    }
+
+    private static void writeArray(DataBuffer buffer, Collection<?> developers) {
+        buffer.write(START_ARRAY);
+        boolean first = true;
+        for (Object developer : developers) {
+            if (!first) {
+                buffer.write(SEPARATOR);
+            }
+            if (developer == null) {
+                buffer.write("null", StandardCharsets.US_ASCII);
+            } else {
+                DeveloperJson.write(buffer, (DeveloperDto) developer);
+            }
+            first = false;
+        }
+        buffer.write(END_ARRAY);
+    }
+
+    private static boolean isUtf8(MimeType mimeType) {
+        return mimeType == null || mimeType.getCharset() == null || StandardCharsets.UTF_8.equals(mimeType.getCharset());
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.qareactive.config;
+
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionMetadata;
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.TransactionDefinition;
+import io.r2dbc.spi.ValidationDepth;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Slf4j
+final class CancellableConnection implements Connection, Wrapped<Connection> {
+
+    private static final Mono<Void> NO_CANCEL = Mono.empty();
+
+    private final Connection delegate;
+    private final PostgresqlConnection postgresqlConnection;
+    private volatile Mono<Void> pendingCancel = NO_CANCEL;
+
+    CancellableConnection(Connection delegate) {
+        this.delegate = delegate;
+        this.postgresqlConnection = unwrap(delegate);
+    }
+
+    // the cancel request travels on its own short-lived connection and the server may act on it only after the query
+    // has already finished, so a backend that was sent one is never handed to another borrower
+    void cancelRunningQuery() {
+        var cancel = postgresqlConnection.cancelRequest()
+                .doOnError(e -> log.warn("Unable to cancel the running query", e))
+                .onErrorComplete()
+                .cache();
+        pendingCancel = cancel;
+        cancel.subscribe();
+    }
+
+    @Override
+    public Statement createStatement(String sql) {
+        var statement = delegate.createStatement(sql);
+        return postgresqlConnection == null ? statement : new CancellableStatement(statement, this);
+    }
+
+    // closing the driver connection under the pool fails the pool's validation on the next acquire, which evicts it
+    @Override
+    public Publisher<Void> close() {
+        return Mono.defer(() -> {
+            var cancel = pendingCancel;
+            if (cancel == NO_CANCEL) {
+                return Mono.from(delegate.close());
+            }
+            return cancel
+                    .then(Mono.from(postgresqlConnection.close()).onErrorComplete())
+                    .then(Mono.from(delegate.close()).onErrorComplete());
+        });
+    }
+
+    @Override
+    public Publisher<Void> beginTransaction() {
+        return delegate.beginTransaction();
+    }
+
+    @Override
+    public Publisher<Void> beginTransaction(TransactionDefinition definition) {
+        return delegate.beginTransaction(definition);
+    }
+
+    @Override
+    public Publisher<Void> commitTransaction() {
+        return delegate.commitTransaction();
+    }
+
+    @Override
+    public Batch createBatch() {
+        return delegate.createBatch();
+    }
+
+    @Override
+    public Publisher<Void> createSavepoint(String name) {
+        return delegate.createSavepoint(name);
+    }
+
+    @Override
+    public boolean isAutoCommit() {
+        return delegate.isAutoCommit();
+    }
+
+    @Override
+    public ConnectionMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public IsolationLevel getTransactionIsolationLevel() {
+        return delegate.getTransactionIsolationLevel();
+    }
+
+    @Override
+    public Publisher<Void> releaseSavepoint(String name) {
+        return delegate.releaseSavepoint(name);
+    }
+
+    @Override
+    public Publisher<Void> rollbackTransaction() {
+        return delegate.rollbackTransaction();
+    }
+
+    @Override
+    public Publisher<Void> rollbackTransactionToSavepoint(String name) {
+        return delegate.rollbackTransactionToSavepoint(name);
+    }
+
+    @Override
+    public Publisher<Void> setAutoCommit(boolean autoCommit) {
+        return delegate.setAutoCommit(autoCommit);
+    }
+
+    @Override
+    public Publisher<Void> setLockWaitTimeout(Duration timeout) {
+        return delegate.setLockWaitTimeout(timeout);
+    }
+
+    @Override
+    public Publisher<Void> setStatementTimeout(Duration timeout) {
+        return delegate.setStatementTimeout(timeout);
+    }
+
+    @Override
+    public Publisher<Void> setTransactionIsolationLevel(IsolationLevel isolationLevel) {
+        return delegate.setTransactionIsolationLevel(isolationLevel);
+    }
+
+    @Override
+    public Publisher<Boolean> validate(ValidationDepth depth) {
+        return delegate.validate(depth);
+    }
+
+    @Override
+    public Connection unwrap() {
+        return delegate;
+    }
+
+    // the pooled and metered wrappers sit between us and the driver connection that knows the backend's cancel key
+    private static PostgresqlConnection unwrap(Connection connection) {
+        Object target = connection;
+        while (!(target instanceof PostgresqlConnection) && target instanceof Wrapped<?> wrapped) {
+            target = wrapped.unwrap();
+        }
+        return target instanceof PostgresqlConnection postgresqlConnection ? postgresqlConnection : null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.qareactive.config;
+
+import com.example.qareactive.deadline.QueryCancellation;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+final class CancellableStatement implements Statement {
+
+    private final Statement delegate;
+    private final CancellableConnection connection;
+
+    CancellableStatement(Statement delegate, CancellableConnection connection) {
+        this.delegate = delegate;
+        this.connection = connection;
+    }
+
+    // only a deadline or a client disconnect cancels on the server; a plain unsubscribe such as Flux.next() after the
+    // first row must not, or every single-row read would open a cancel connection
+    @Override
+    public Publisher<? extends Result> execute() {
+        return Flux.<Result>deferContextual(context -> {
+            var cancellation = QueryCancellation.from(context);
+            if (cancellation == null) {
+                return Flux.<Result>from(delegate.execute());
+            }
+            var registration = cancellation.register(connection::cancelRunningQuery);
+            return Flux.<Result>from(delegate.execute())
+                    .doFinally(signal -> registration.dispose());
+        });
+    }
+
+    @Override
+    public Statement add() {
+        delegate.add();
+        return this;
+    }
+
+    @Override
+    public Statement bind(int index, Object value) {
+        delegate.bind(index, value);
+        return this;
+    }
+
+    @Override
+    public Statement bind(String name, Object value) {
+        delegate.bind(name, value);
+        return this;
+    }
+
+    @Override
+    public Statement bindNull(int index, Class<?> type) {
+        delegate.bindNull(index, type);
+        return this;
+    }
+
+    @Override
+    public Statement bindNull(String name, Class<?> type) {
+        delegate.bindNull(name, type);
+        return this;
+    }
+
+    @Override
+    public Statement returnGeneratedValues(String... columns) {
+        delegate.returnGeneratedValues(columns);
+        return this;
+    }
+
+    @Override
+    public Statement fetchSize(int rows) {
+        delegate.fetchSize(rows);
+        return this;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.qareactive.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import reactor.core.publisher.BufferOverflowStrategy;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.developers.changes")
+public class DeveloperChangesProperties {
+    private boolean enabled = true;
+    private int bufferSize = 256;
+    private BufferOverflowStrategy overflowStrategy = BufferOverflowStrategy.DROP_OLDEST;
+    private Duration heartbeat = Duration.ofSeconds(15);
+    private Duration reconnectMinBackoff = Duration.ofSeconds(1);
+    private Duration reconnectMaxBackoff = Duration.ofSeconds(30);
+}
@@ -0,0 +1,20 @@
+package com.example.qareactive.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "app.developers.concurrency-limit")
+public class DeveloperConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    private int maxLimit = 200;
+    private double smoothing = 0.2;
+    private double rttTolerance = 1.5;
+    private int longWindow = 600;
+    private List<String> excludedPaths = new ArrayList<>();
+}
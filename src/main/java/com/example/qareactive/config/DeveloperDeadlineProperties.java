@@ -0,0 +1,20 @@
+package com.example.qareactive.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "app.developers.deadline")
+public class DeveloperDeadlineProperties {
+    private boolean enabled = true;
+    private String header = "X-Request-Timeout";
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+    private Duration maxTimeout = Duration.ofSeconds(30);
+    private Duration operationTimeout = Duration.ofSeconds(5);
+    private Map<String, Duration> operations = new HashMap<>();
+    private Duration statementTimeout;
+}
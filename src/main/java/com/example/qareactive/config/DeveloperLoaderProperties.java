@@ -0,0 +1,15 @@
+package com.example.qareactive.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.developers.loader")
+public class DeveloperLoaderProperties {
+    private boolean enabled = true;
+    private Duration window = Duration.ofMillis(2);
+    private int maxBatchSize = 100;
+    private int maxConcurrency = 8;
+}
@@ -0,0 +1,19 @@
+package com.example.qareactive.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.developers.pagination")
+public class DeveloperPaginationProperties {
+    private int defaultLimit = 50;
+    private int maxLimit = 1000;
+    private int streamFetchSize = 500;
+
+    public int resolveLimit(Integer limit) {
+        if (limit == null || limit < 1) {
+            return defaultLimit;
+        }
+        return Math.min(limit, maxLimit);
+    }
+}
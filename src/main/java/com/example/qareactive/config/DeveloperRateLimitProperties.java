@@ -0,0 +1,29 @@
+package com.example.qareactive.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "app.developers.rate-limit")
+public class DeveloperRateLimitProperties {
+    private boolean enabled = true;
+    private String apiKeyHeader = "X-API-Key";
+    private long clientCapacity = 200;
+    private long clientRefillPerSecond = 100;
+    private long maxClients = 100_000;
+    private Duration clientIdleTimeout = Duration.ofMinutes(10);
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+        private String pattern;
+        private HttpMethod method;
+        private long capacity;
+        private long refillPerSecond;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.qareactive.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.developers.search")
+public class DeveloperSearchProperties {
+    private int minQueryLength = 3;
+}
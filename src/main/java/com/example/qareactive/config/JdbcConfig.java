@@ -0,0 +1,37 @@
+package com.example.qareactive.config;
+
+import com.example.qareactive.deadline.JdbcQueryCancellation;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+
+@Profile("jdbc")
+@Configuration(proxyBeanMethods = false)
+public class JdbcConfig {
+
+    // one virtual thread per blocking call, so the Hikari pool rather than a thread count bounds database concurrency
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler() {
+        return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "jdbc-virtual");
+    }
+
+    // replaces the auto-configured template so every statement it creates picks up the calling operation's deadline
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource) {
+            @Override
+            protected void applyStatementSettings(Statement statement) throws SQLException {
+                super.applyStatementSettings(statement);
+                JdbcQueryCancellation.apply(statement);
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.qareactive.config;
+
+import com.example.qareactive.metrics.MeteredConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Option;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcConnectionDetails;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+
+@Configuration(proxyBeanMethods = false)
+public class R2dbcConfig {
+
+    private static final Option<Duration> STATEMENT_TIMEOUT = Option.valueOf("statementTimeout");
+
+    @Bean(destroyMethod = "dispose")
+    public MeteredConnectionFactory primaryConnectionFactory(R2dbcConnectionDetails connectionDetails, R2dbcProperties properties,
+                                                             DeveloperDeadlineProperties deadlineProperties, MeterRegistry meterRegistry) {
+        var options = ConnectionFactoryOptions.builder().from(connectionDetails.getConnectionFactoryOptions());
+        return pooled(options, properties, deadlineProperties, "connectionFactory", meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public ReadReplicaRoutingConnectionFactory connectionFactory(MeteredConnectionFactory primaryConnectionFactory,
+                                                                 R2dbcProperties properties, R2dbcReadProperties readProperties,
+                                                                 DeveloperDeadlineProperties deadlineProperties,
+                                                                 MeterRegistry meterRegistry) {
+        var replicas = new LinkedHashMap<String, MeteredConnectionFactory>();
+        for (int i = 0; i < readProperties.getReplicas().size(); i++) {
+            var replica = readProperties.getReplicas().get(i);
+            var options = ConnectionFactoryOptions.parse(replica.getUrl()).mutate();
+            var map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+            map.from(replica.getUsername()).to(username -> options.option(ConnectionFactoryOptions.USER, username));
+            map.from(replica.getPassword()).to(password -> options.option(ConnectionFactoryOptions.PASSWORD, password));
+            var name = "replica-" + i;
+            var pooled = pooled(options, properties, deadlineProperties, name, meterRegistry);
+            // pool gauges are only auto-bound for ConnectionFactory beans, and replica pools are not beans
+            new ConnectionPoolMetrics(pooled.unwrap(), name, Tags.empty()).bindTo(meterRegistry);
+            replicas.put(name, pooled);
+        }
+        return new ReadReplicaRoutingConnectionFactory(primaryConnectionFactory, replicas, readProperties);
+    }
+
+    private static MeteredConnectionFactory pooled(ConnectionFactoryOptions.Builder options, R2dbcProperties properties,
+                                                   DeveloperDeadlineProperties deadlineProperties, String name,
+                                                   MeterRegistry meterRegistry) {
+        // driver options such as preparedStatementCacheQueries also apply when the connection comes from a service connection
+        properties.getProperties().forEach((key, value) -> options.option(Option.valueOf(key), value));
+        // the server-side backstop for queries whose cancel request never arrived
+        if (deadlineProperties.getStatementTimeout() != null) {
+            options.option(STATEMENT_TIMEOUT, deadlineProperties.getStatementTimeout());
+        }
+        var connectionFactory = ConnectionFactoryBuilder.withOptions(options).build();
+        var pool = properties.getPool();
+        var builder = ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(name);
+        var map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(pool.getInitialSize()).to(builder::initialSize);
+        map.from(pool.getMaxSize()).to(builder::maxSize);
+        map.from(pool.getMinIdle()).to(builder::minIdle);
+        map.from(pool.getMaxIdleTime()).to(builder::maxIdleTime);
+        map.from(pool.getMaxLifeTime()).to(builder::maxLifeTime);
+        map.from(pool.getMaxAcquireTime()).to(builder::maxAcquireTime);
+        map.from(pool.getMaxCreateConnectionTime()).to(builder::maxCreateConnectionTime);
+        map.from(pool.getMaxValidationTime()).to(builder::maxValidationTime);
+        map.from(pool.getValidationQuery()).whenHasText().to(builder::validationQuery);
+        map.from(pool.getValidationDepth()).to(builder::validationDepth);
+        map.from(pool.getAcquireRetry()).to(builder::acquireRetry);
+        return new MeteredConnectionFactory(new ConnectionPool(builder.build()), name, meterRegistry);
+    }
+}
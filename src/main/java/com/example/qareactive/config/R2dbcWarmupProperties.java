@@ -0,0 +1,13 @@
+package com.example.qareactive.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.r2dbc.warmup")
+public class R2dbcWarmupProperties {
+    private boolean enabled = true;
+    private Duration timeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,22 @@
+package com.example.qareactive.config;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+public final class ReadReplicaRouting {
+
+    private static final String KEY = ReadReplicaRouting.class.getName();
+    private static final Context REPLICA = Context.of(KEY, Boolean.TRUE);
+
+    private ReadReplicaRouting() {
+    }
+
+    // only reads that tolerate replication lag opt in; everything else, transactions included, stays on the primary
+    public static Context replica() {
+        return REPLICA;
+    }
+
+    static boolean isReplicaRead(ContextView context) {
+        return context.getOrDefault(KEY, Boolean.FALSE);
+    }
+}
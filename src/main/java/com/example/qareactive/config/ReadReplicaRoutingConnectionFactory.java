@@ -0,0 +1,109 @@
+package com.example.qareactive.config;
+
+import com.example.qareactive.metrics.MeteredConnectionFactory;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReadReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    private final MeteredConnectionFactory primary;
+    private final Map<String, MeteredConnectionFactory> replicas;
+    private final R2dbcReadProperties properties;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> healthyReplicas;
+    private Disposable healthChecks;
+
+    public ReadReplicaRoutingConnectionFactory(MeteredConnectionFactory primary, Map<String, MeteredConnectionFactory> replicas,
+                                               R2dbcReadProperties properties) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.properties = properties;
+        this.healthyReplicas = List.copyOf(replicas.keySet());
+        setDefaultTargetConnectionFactory(primary);
+        setTargetConnectionFactories(new HashMap<>(replicas));
+    }
+
+    // every connection handed to the application turns a deadline or a client disconnect into a server-side cancel
+    @Override
+    public Mono<Connection> create() {
+        return super.create().map(CancellableConnection::new);
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> {
+            if (!ReadReplicaRouting.isReplicaRead(context)) {
+                return Mono.empty();
+            }
+            var candidates = healthyReplicas;
+            // an empty key falls back to the default target, so reads degrade to the primary when no replica is healthy
+            if (candidates.isEmpty()) {
+                return Mono.empty();
+            }
+            return Mono.just(candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size())));
+        });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (replicas.isEmpty()) {
+            return;
+        }
+        healthChecks = Flux.interval(properties.getHealthCheckInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> Flux.fromIterable(replicas.entrySet())
+                        .flatMap(replica -> probe(replica.getValue())
+                                .map(healthy -> Map.entry(replica.getKey(), healthy)))
+                        .collectList())
+                .subscribe(this::updateHealthyReplicas);
+    }
+
+    public Mono<Integer> warmup() {
+        return Flux.concat(primary.unwrap().warmup(), Flux.fromIterable(replicas.values())
+                        .concatMap(replica -> replica.unwrap().warmup()))
+                .reduce(0, Integer::sum);
+    }
+
+    @Override
+    public void destroy() {
+        if (healthChecks != null) {
+            healthChecks.dispose();
+        }
+        replicas.values().forEach(MeteredConnectionFactory::dispose);
+    }
+
+    private Mono<Boolean> probe(ConnectionFactory replica) {
+        return Mono.usingWhen(replica.create(),
+                        connection -> Flux.from(connection.createStatement("SELECT 1").execute())
+                                .flatMap(result -> result.map((row, metadata) -> row.get(0)))
+                                .then(Mono.just(true)),
+                        Connection::close)
+                .timeout(properties.getHealthCheckTimeout())
+                .onErrorReturn(false);
+    }
+
+    private void updateHealthyReplicas(List<Map.Entry<String, Boolean>> probes) {
+        var healthy = probes.stream()
+                .filter(Map.Entry::getValue)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        if (!healthy.equals(healthyReplicas)) {
+            log.info("Healthy read replicas changed from {} to {}", healthyReplicas, healthy);
+            healthyReplicas = healthy;
+        }
+    }
+}
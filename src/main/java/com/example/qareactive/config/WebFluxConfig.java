@@ -0,0 +1,16 @@
+package com.example.qareactive.config;
+
+import com.example.qareactive.codec.DeveloperDtoEncoder;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+@Configuration(proxyBeanMethods = false)
+public class WebFluxConfig implements WebFluxConfigurer {
+
+    // custom typed writers run ahead of the default Jackson writer, so DeveloperDto bodies skip reflective serialization
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new DeveloperDtoEncoder());
+    }
+}
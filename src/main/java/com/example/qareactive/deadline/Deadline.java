@@ -0,0 +1,21 @@
+package com.example.qareactive.deadline;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+
+public record Deadline(long expiresAtNanos) {
+
+    public static Context after(Duration timeout) {
+        return Context.of(Deadline.class, new Deadline(System.nanoTime() + timeout.toNanos()));
+    }
+
+    public static Deadline from(ContextView context) {
+        return context.getOrDefault(Deadline.class, null);
+    }
+
+    public long remainingNanos() {
+        return expiresAtNanos - System.nanoTime();
+    }
+}
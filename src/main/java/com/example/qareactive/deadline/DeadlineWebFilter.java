@@ -0,0 +1,46 @@
+package com.example.qareactive.deadline;
+
+import com.example.qareactive.config.DeveloperDeadlineProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class DeadlineWebFilter implements WebFilter {
+
+    private final DeveloperDeadlineProperties properties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+                .contextWrite(Deadline.after(requestTimeout(exchange.getRequest())));
+    }
+
+    // a caller's budget such as 1500ms or a bare 1500 is honoured up to max-timeout, anything unreadable gets the default
+    private Duration requestTimeout(ServerHttpRequest request) {
+        var value = request.getHeaders().getFirst(properties.getHeader());
+        if (value == null || value.isBlank()) {
+            return properties.getDefaultTimeout();
+        }
+        try {
+            var timeout = DurationStyle.detectAndParse(value.strip(), ChronoUnit.MILLIS);
+            return timeout.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : timeout;
+        } catch (IllegalArgumentException e) {
+            return properties.getDefaultTimeout();
+        }
+    }
+}
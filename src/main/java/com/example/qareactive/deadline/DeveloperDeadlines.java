@@ -0,0 +1,84 @@
+package com.example.qareactive.deadline;
+
+import com.example.qareactive.config.DeveloperDeadlineProperties;
+import com.example.qareactive.exception.DeadlineExceededException;
+import io.r2dbc.spi.R2dbcException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@RequiredArgsConstructor
+public class DeveloperDeadlines {
+
+    private static final String QUERY_CANCELED = "57014";
+
+    private final DeveloperDeadlineProperties properties;
+
+    public <T> Mono<T> apply(String operation, Mono<T> source) {
+        if (!properties.isEnabled()) {
+            return source;
+        }
+        return Mono.deferContextual(context -> {
+            long timeoutNanos = timeoutNanos(operation, context);
+            if (timeoutNanos <= 0) {
+                return Mono.error(DeadlineExceededException.INSTANCE);
+            }
+            var cancellation = new QueryCancellation();
+            // the effective deadline goes downstream too, so a blocking query can time itself out on the server;
+            // doOnCancel sits upstream of the timeout, so the cancel requests go out before the queries are unsubscribed
+            return source
+                    .contextWrite(QueryCancellation.with(cancellation))
+                    .contextWrite(Deadline.after(Duration.ofNanos(timeoutNanos)))
+                    .doOnCancel(cancellation::cancel)
+                    .timeout(Duration.ofNanos(timeoutNanos), Mono.error(DeadlineExceededException.INSTANCE))
+                    .onErrorMap(DeveloperDeadlines::isQueryTimeout, e -> DeadlineExceededException.INSTANCE);
+        });
+    }
+
+    // Flux.timeout restarts per element, whereas a deadline bounds the whole result
+    public <T> Flux<T> apply(String operation, Flux<T> source) {
+        if (!properties.isEnabled()) {
+            return source;
+        }
+        return Flux.deferContextual(context -> {
+            long timeoutNanos = timeoutNanos(operation, context);
+            if (timeoutNanos <= 0) {
+                return Flux.error(DeadlineExceededException.INSTANCE);
+            }
+            var cancellation = new QueryCancellation();
+            var expired = new AtomicBoolean();
+            return source
+                    .contextWrite(QueryCancellation.with(cancellation))
+                    .contextWrite(Deadline.after(Duration.ofNanos(timeoutNanos)))
+                    .doOnCancel(cancellation::cancel)
+                    .takeUntilOther(Mono.delay(Duration.ofNanos(timeoutNanos)).doOnNext(tick -> expired.set(true)))
+                    .concatWith(Mono.defer(() -> expired.get() ? Mono.error(DeadlineExceededException.INSTANCE) : Mono.empty()))
+                    .onErrorMap(DeveloperDeadlines::isQueryTimeout, e -> DeadlineExceededException.INSTANCE);
+        });
+    }
+
+    private long timeoutNanos(String operation, ContextView context) {
+        long timeoutNanos = properties.getOperations().getOrDefault(operation, properties.getOperationTimeout()).toNanos();
+        var deadline = Deadline.from(context);
+        return deadline == null ? timeoutNanos : Math.min(timeoutNanos, deadline.remainingNanos());
+    }
+
+    // statement_timeout ends the query with SQLSTATE 57014 (query_canceled), whether or not it was translated on the way up
+    private static boolean isQueryTimeout(Throwable e) {
+        if (e instanceof QueryTimeoutException) {
+            return true;
+        }
+        var cause = NestedExceptionUtils.getMostSpecificCause(e);
+        return cause instanceof R2dbcException r2dbcException && QUERY_CANCELED.equals(r2dbcException.getSqlState())
+                || cause instanceof SQLException sqlException && QUERY_CANCELED.equals(sqlException.getSQLState());
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.qareactive.deadline;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+// a blocking call runs on a thread of its own, so the operation's deadline and cancellation reach the statements it
+// creates through that thread; Postgres then ends a given up statement itself, much like the R2DBC cancel request
+public final class JdbcQueryCancellation {
+
+    private static final String QUERY_CANCELED = "57014";
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final ThreadLocal<JdbcQueryCancellation> CURRENT = new ThreadLocal<>();
+
+    private final Deadline deadline;
+    private final QueryCancellation cancellation;
+    private final List<Disposable> registrations = new ArrayList<>(1);
+
+    private JdbcQueryCancellation(Deadline deadline, QueryCancellation cancellation) {
+        this.deadline = deadline;
+        this.cancellation = cancellation;
+    }
+
+    // the task is deliberately not disposed on cancel: interrupting a virtual thread blocked in a socket read closes
+    // the PgJDBC connection while Postgres keeps running the query, and Hikari has to open a replacement
+    public static <T> Mono<T> call(Scheduler scheduler, Callable<T> call) {
+        return Mono.deferContextual(context -> {
+            var current = new JdbcQueryCancellation(Deadline.from(context), QueryCancellation.from(context));
+            return Mono.<T>create(sink -> scheduler.schedule(() -> {
+                try {
+                    sink.success(current.run(call));
+                } catch (Throwable e) {
+                    sink.error(e);
+                }
+            }));
+        });
+    }
+
+    // the query timeout is a server-side backstop in whole seconds; the cancel request ends the statement on time
+    public static void apply(Statement statement) throws SQLException {
+        var current = CURRENT.get();
+        if (current == null) {
+            return;
+        }
+        if (current.cancellation != null && current.cancellation.isCancelled()) {
+            throw new SQLTimeoutException("operation given up before the statement was sent", QUERY_CANCELED);
+        }
+        if (current.deadline != null) {
+            long remainingNanos = current.deadline.remainingNanos();
+            if (remainingNanos <= 0) {
+                throw new SQLTimeoutException("deadline passed before the statement was sent", QUERY_CANCELED);
+            }
+            statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, (remainingNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND));
+        }
+        if (current.cancellation != null) {
+            current.registrations.add(current.cancellation.register(() -> Thread.startVirtualThread(() -> cancel(statement))));
+        }
+    }
+
+    private <T> T run(Callable<T> call) throws Exception {
+        CURRENT.set(this);
+        try {
+            return call.call();
+        } finally {
+            CURRENT.remove();
+            registrations.forEach(Disposable::dispose);
+        }
+    }
+
+    // Statement.cancel opens a connection of its own to send the cancel request, so it never runs on the timer thread
+    private static void cancel(Statement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException ignored) {
+            // the statement already finished or its connection is gone, either way nothing is left to cancel
+        }
+    }
+}
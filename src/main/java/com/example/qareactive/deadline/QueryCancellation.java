@@ -0,0 +1,56 @@
+package com.example.qareactive.deadline;
+
+import reactor.core.Disposable;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class QueryCancellation {
+
+    private final List<Runnable> inflight = new ArrayList<>(1);
+    private boolean cancelled;
+
+    public static Context with(QueryCancellation cancellation) {
+        return Context.of(QueryCancellation.class, cancellation);
+    }
+
+    public static QueryCancellation from(ContextView context) {
+        return context.getOrDefault(QueryCancellation.class, null);
+    }
+
+    // a query that starts after the operation was given up on is cancelled straight away
+    public Disposable register(Runnable cancelQuery) {
+        synchronized (this) {
+            if (!cancelled) {
+                inflight.add(cancelQuery);
+                return () -> deregister(cancelQuery);
+            }
+        }
+        cancelQuery.run();
+        return () -> {
+        };
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void cancel() {
+        List<Runnable> queries;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            queries = List.copyOf(inflight);
+            inflight.clear();
+        }
+        queries.forEach(Runnable::run);
+    }
+
+    private synchronized void deregister(Runnable cancelQuery) {
+        inflight.remove(cancelQuery);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.qareactive.deadline;
+
+// one query serving several operations is cancelled only once every one of them has given up;
+// an operation without a cancellation of its own never gives up, so it keeps the query running
+public final class SharedQueryCancellation {
+
+    private final QueryCancellation cancellation = new QueryCancellation();
+    private int waiters;
+    private int givenUp;
+    private boolean cancelled;
+
+    public QueryCancellation cancellation() {
+        return cancellation;
+    }
+
+    // false once the shared query has been cancelled, so a late waiter has to run its own
+    public boolean join(QueryCancellation waiter) {
+        synchronized (this) {
+            if (cancelled) {
+                return false;
+            }
+            waiters++;
+        }
+        if (waiter != null) {
+            waiter.register(this::giveUp);
+        }
+        return true;
+    }
+
+    private void giveUp() {
+        synchronized (this) {
+            if (cancelled || ++givenUp < waiters) {
+                return;
+            }
+            cancelled = true;
+        }
+        cancellation.cancel();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.qareactive.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperBatchResultDto {
+    private Long index;
+    private Integer status;
+    private DeveloperDto developer;
+    private List<Map<String, Object>> errors;
+}
@@ -0,0 +1,30 @@
+package com.example.qareactive.dto;
+
+import com.example.qareactive.notification.DeveloperChangeEvent;
+import com.example.qareactive.notification.DeveloperChangeOperation;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperChangeDto {
+    private DeveloperChangeOperation operation;
+    private Integer id;
+    private Long version;
+    private DeveloperDto developer;
+
+    public static DeveloperChangeDto fromEvent(DeveloperChangeEvent event) {
+        return DeveloperChangeDto.builder()
+                .operation(event.getOperation())
+                .id(event.getId())
+                .version(event.getVersion())
+                .developer(event.getDeveloper() == null ? null : DeveloperDto.fromEntity(event.getDeveloper()))
+                .build();
+    }
+}
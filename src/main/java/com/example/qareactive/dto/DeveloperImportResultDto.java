@@ -0,0 +1,14 @@
+package com.example.qareactive.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeveloperImportResultDto {
+    private Long imported;
+}
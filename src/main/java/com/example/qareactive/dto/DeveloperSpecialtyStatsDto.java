@@ -0,0 +1,27 @@
+package com.example.qareactive.dto;
+
+import com.example.qareactive.repository.DeveloperSpecialtyStats;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperSpecialtyStatsDto {
+    private String specialty;
+    private String status;
+    private Long count;
+
+    public static DeveloperSpecialtyStatsDto fromStats(DeveloperSpecialtyStats stats) {
+        return DeveloperSpecialtyStatsDto.builder()
+                .specialty(stats.specialty())
+                .status(stats.status())
+                .count(stats.count())
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Persistable;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -25,6 +26,9 @@ public class DeveloperEntity implements Persistable<Integer> {
 
     private Status status;
 
+    @Version
+    private Long version;
+
     @Override
     public boolean isNew() {
         return Objects.isNull(id);
@@ -1,24 +1,57 @@
 package com.example.qareactive.errorhandling;
 
 import com.example.qareactive.exception.ApiException;
+import com.example.qareactive.exception.DeadlineExceededException;
 import com.example.qareactive.exception.DeveloperNotFoundException;
+import com.example.qareactive.exception.DeveloperValidationException;
+import com.example.qareactive.exception.DeveloperVersionMismatchException;
 import com.example.qareactive.exception.DeveloperWithEmailAlreadyExistsException;
+import com.example.qareactive.exception.InvalidPageTokenException;
+import com.example.qareactive.exception.RateLimitExceededException;
+import com.example.qareactive.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.boot.web.error.ErrorAttributeOptions;
 import org.springframework.boot.web.reactive.error.DefaultErrorAttributes;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
 public class AppErrorAttributes extends DefaultErrorAttributes {
 
+    private static final List<ApiException> PREALLOCATED_ERRORS = List.of(
+            DeveloperNotFoundException.INSTANCE,
+            DeveloperWithEmailAlreadyExistsException.INSTANCE,
+            DeveloperVersionMismatchException.INSTANCE,
+            DeveloperValidationException.EMAIL_REQUIRED,
+            DeveloperValidationException.EMPTY_PATCH,
+            DeveloperValidationException.INVALID_IMPORT,
+            DeveloperValidationException.INVALID_STATUS,
+            DeveloperValidationException.SEARCH_QUERY_TOO_SHORT,
+            InvalidPageTokenException.INSTANCE,
+            RateLimitExceededException.INSTANCE,
+            ServiceOverloadedException.INSTANCE,
+            DeadlineExceededException.INSTANCE);
+
+    private final Map<ApiException, byte[]> serializedErrors = new IdentityHashMap<>();
+
     public AppErrorAttributes() {
         super();
+        var objectMapper = new ObjectMapper();
+        for (var error : PREALLOCATED_ERRORS) {
+            try {
+                serializedErrors.put(error, objectMapper.writeValueAsBytes(getErrorBody(error)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Unable to serialize error " + error.getErrorCode(), e);
+            }
+        }
     }
 
     @Override
@@ -26,44 +59,55 @@ public class AppErrorAttributes extends DefaultErrorAttributes {
         var errorAttributes = super.getErrorAttributes(request, ErrorAttributeOptions.defaults());
         var error = getError(request);
 
-        var errorList = new ArrayList<Map<String, Object>>();
+        errorAttributes.put("status", getStatus(error).value());
+        errorAttributes.put("errors", getErrorBody(error));
 
-        HttpStatus status;
-        if (error instanceof DeveloperWithEmailAlreadyExistsException) {
-            status = HttpStatus.BAD_REQUEST;
-            var errorMap = new LinkedHashMap<String, Object>();
-            errorMap.put("code", ((ApiException) error).getErrorCode());
-            errorMap.put("message", error.getMessage());
-            errorList.add(errorMap);
+        return errorAttributes;
+    }
+
+    public HttpStatus getStatus(Throwable error) {
+        if (error instanceof DeveloperWithEmailAlreadyExistsException
+                || error instanceof DeveloperValidationException
+                || error instanceof InvalidPageTokenException) {
+            return HttpStatus.BAD_REQUEST;
+        } else if (error instanceof DeveloperVersionMismatchException) {
+            return HttpStatus.PRECONDITION_FAILED;
         } else if (error instanceof DeveloperNotFoundException) {
-            status = HttpStatus.NOT_FOUND;
-            var errorMap = new LinkedHashMap<String, Object>();
-            errorMap.put("code", ((ApiException) error).getErrorCode());
-            errorMap.put("message", error.getMessage());
-            errorList.add(errorMap);
+            return HttpStatus.NOT_FOUND;
+        } else if (error instanceof RateLimitExceededException) {
+            return HttpStatus.TOO_MANY_REQUESTS;
+        } else if (error instanceof ServiceOverloadedException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        } else if (error instanceof DeadlineExceededException) {
+            return HttpStatus.GATEWAY_TIMEOUT;
         } else if (error instanceof ApiException) {
-            status = HttpStatus.NOT_FOUND;
-            var errorMap = new LinkedHashMap<String, Object>();
-            errorMap.put("code", ((ApiException) error).getErrorCode());
+            return HttpStatus.NOT_FOUND;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    public Map<String, Object> getErrorBody(Throwable error) {
+        return Collections.singletonMap("errors", getErrors(error));
+    }
+
+    public byte[] getSerializedErrorBody(Throwable error) {
+        return serializedErrors.get(error);
+    }
+
+    public List<Map<String, Object>> getErrors(Throwable error) {
+        var errorMap = new LinkedHashMap<String, Object>();
+        if (error instanceof ApiException apiException) {
+            errorMap.put("code", apiException.getErrorCode());
             errorMap.put("message", error.getMessage());
-            errorList.add(errorMap);
         } else {
-            status = HttpStatus.INTERNAL_SERVER_ERROR;
             var message = error.getMessage();
             if (message == null)
                 message = error.getClass().getName();
 
-            var errorMap = new LinkedHashMap<String, Object>();
             errorMap.put("code", "INTERNAL_ERROR");
             errorMap.put("message", message);
-            errorList.add(errorMap);
         }
 
-        var errors = new HashMap<String, Object>();
-        errors.put("errors", errorList);
-        errorAttributes.put("status", status.value());
-        errorAttributes.put("errors", errors);
-
-        return errorAttributes;
+        return List.of(errorMap);
     }
-}
\ No newline at end of file
+}
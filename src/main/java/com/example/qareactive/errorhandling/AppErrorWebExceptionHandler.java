@@ -1,10 +1,12 @@
 package com.example.qareactive.errorhandling;
 
+import com.example.qareactive.metrics.DeveloperMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.web.WebProperties;
 import org.springframework.boot.autoconfigure.web.reactive.error.AbstractErrorWebExceptionHandler;
-import org.springframework.boot.web.error.ErrorAttributeOptions;
 import org.springframework.boot.web.reactive.error.ErrorAttributes;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.ServerCodecConfigurer;
 import org.springframework.stereotype.Component;
@@ -13,11 +15,19 @@ import org.springframework.web.reactive.function.server.RequestPredicates;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.RouterFunctions;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
 
 @Component
 public class AppErrorWebExceptionHandler extends AbstractErrorWebExceptionHandler {
-    public AppErrorWebExceptionHandler(AppErrorAttributes g, ApplicationContext applicationContext, ServerCodecConfigurer serverCodecConfigurer) {
+
+    private final AppErrorAttributes appErrorAttributes;
+    private final ObjectProvider<DeveloperMetrics> developerMetrics;
+
+    public AppErrorWebExceptionHandler(AppErrorAttributes g, ApplicationContext applicationContext, ServerCodecConfigurer serverCodecConfigurer,
+                                       ObjectProvider<DeveloperMetrics> developerMetrics) {
         super(g, new WebProperties.Resources(), applicationContext);
+        this.appErrorAttributes = g;
+        this.developerMetrics = developerMetrics;
         super.setMessageWriters(serverCodecConfigurer.getWriters());
         super.setMessageReaders(serverCodecConfigurer.getReaders());
     }
@@ -25,11 +35,19 @@ public class AppErrorWebExceptionHandler extends AbstractErrorWebExceptionHandle
     @Override
     protected RouterFunction<ServerResponse> getRoutingFunction(final ErrorAttributes errorAttributes) {
         return RouterFunctions.route(RequestPredicates.all(), request -> {
-            var props = getErrorAttributes(request, ErrorAttributeOptions.defaults());
+            var error = errorAttributes.getError(request);
+            var status = appErrorAttributes.getStatus(error);
+            developerMetrics.ifAvailable(metrics -> metrics.recordError(error, status));
 
-            return ServerResponse.status(Integer.parseInt(props.getOrDefault("status", 500).toString()))
+            var serializedBody = appErrorAttributes.getSerializedErrorBody(error);
+            if (serializedBody != null) {
+                return ServerResponse.status(status)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(BodyInserters.fromDataBuffers(Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance.wrap(serializedBody))));
+            }
+            return ServerResponse.status(status)
                     .contentType(MediaType.APPLICATION_JSON)
-                    .body(BodyInserters.fromValue(props.get("errors")));
+                    .body(BodyInserters.fromValue(appErrorAttributes.getErrorBody(error)));
         });
     }
 }
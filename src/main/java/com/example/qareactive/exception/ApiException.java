@@ -8,7 +8,8 @@ public class ApiException extends RuntimeException {
     protected String errorCode;
 
     public ApiException(String message, String errorCode) {
-        super(message);
+        // api errors are expected outcomes rendered as responses, so the stack trace is never read and not worth filling in
+        super(message, null, false, false);
         this.errorCode = errorCode;
     }
 }
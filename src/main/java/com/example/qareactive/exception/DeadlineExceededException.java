@@ -0,0 +1,10 @@
+package com.example.qareactive.exception;
+
+public class DeadlineExceededException extends ApiException {
+
+    public static final DeadlineExceededException INSTANCE = new DeadlineExceededException("Request deadline exceeded", "DEADLINE_EXCEEDED");
+
+    public DeadlineExceededException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.qareactive.exception;
 
 public class DeveloperNotFoundException extends ApiException {
+
+    public static final DeveloperNotFoundException INSTANCE = new DeveloperNotFoundException("Developer not found", "DEVELOPER_NOT_FOUND");
+
     public DeveloperNotFoundException(String message, String errorCode) {
         super(message, errorCode);
     }
@@ -0,0 +1,14 @@
+package com.example.qareactive.exception;
+
+public class DeveloperValidationException extends ApiException {
+
+    public static final DeveloperValidationException EMAIL_REQUIRED = new DeveloperValidationException("Developer email is required", "DEVELOPER_EMAIL_REQUIRED");
+    public static final DeveloperValidationException EMPTY_PATCH = new DeveloperValidationException("Developer patch has no fields to update", "DEVELOPER_EMPTY_PATCH");
+    public static final DeveloperValidationException INVALID_IMPORT = new DeveloperValidationException("Developer import is not valid CSV", "DEVELOPER_IMPORT_INVALID");
+    public static final DeveloperValidationException INVALID_STATUS = new DeveloperValidationException("Developer status is not valid", "DEVELOPER_STATUS_INVALID");
+    public static final DeveloperValidationException SEARCH_QUERY_TOO_SHORT = new DeveloperValidationException("Search query is too short", "DEVELOPER_SEARCH_QUERY_TOO_SHORT");
+
+    public DeveloperValidationException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.qareactive.exception;
+
+public class DeveloperVersionMismatchException extends ApiException {
+
+    public static final DeveloperVersionMismatchException INSTANCE = new DeveloperVersionMismatchException("Developer version does not match", "DEVELOPER_VERSION_MISMATCH");
+
+    public DeveloperVersionMismatchException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.qareactive.exception;
 
 public class DeveloperWithEmailAlreadyExistsException extends ApiException {
+
+    public static final DeveloperWithEmailAlreadyExistsException INSTANCE = new DeveloperWithEmailAlreadyExistsException("Developer with defined email already exists", "DEVELOPER_DUPLICATE_EMAIL");
+
     public DeveloperWithEmailAlreadyExistsException(String message, String errorCode) {
         super(message, errorCode);
     }
@@ -0,0 +1,10 @@
+package com.example.qareactive.exception;
+
+public class InvalidPageTokenException extends ApiException {
+
+    public static final InvalidPageTokenException INSTANCE = new InvalidPageTokenException("Page token is invalid", "INVALID_PAGE_TOKEN");
+
+    public InvalidPageTokenException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.qareactive.exception;
+
+public class RateLimitExceededException extends ApiException {
+
+    public static final RateLimitExceededException INSTANCE = new RateLimitExceededException("Too many requests, retry later", "RATE_LIMIT_EXCEEDED");
+
+    public RateLimitExceededException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.qareactive.exception;
+
+public class ServiceOverloadedException extends ApiException {
+
+    public static final ServiceOverloadedException INSTANCE = new ServiceOverloadedException("Service is overloaded, retry later", "SERVICE_OVERLOADED");
+
+    public ServiceOverloadedException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
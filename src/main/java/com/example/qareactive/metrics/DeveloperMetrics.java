@@ -0,0 +1,91 @@
+package com.example.qareactive.metrics;
+
+import com.example.qareactive.exception.ApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class DeveloperMetrics {
+
+    private static final String SERVICE_TIMER = "developers.service";
+    private static final String REPOSITORY_TIMER = "developers.repository";
+    private static final String ERRORS_COUNTER = "developers.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public DeveloperMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> Mono<T> timeService(String operation, Mono<T> source) {
+        return time(SERVICE_TIMER, operation, source);
+    }
+
+    public <T> Flux<T> timeService(String operation, Flux<T> source) {
+        return time(SERVICE_TIMER, operation, source);
+    }
+
+    public <T> Mono<T> timeRepository(String operation, Mono<T> source) {
+        return time(REPOSITORY_TIMER, operation, source);
+    }
+
+    public <T> Flux<T> timeRepository(String operation, Flux<T> source) {
+        return time(REPOSITORY_TIMER, operation, source);
+    }
+
+    public void recordError(Throwable error, HttpStatus status) {
+        meterRegistry.counter(ERRORS_COUNTER,
+                        "code", error instanceof ApiException apiException ? apiException.getErrorCode() : "INTERNAL_ERROR",
+                        "status", String.valueOf(status.value()))
+                .increment();
+    }
+
+    private <T> Mono<T> time(String name, String operation, Mono<T> source) {
+        return Mono.defer(() -> {
+            var sample = Timer.start(meterRegistry);
+            return source
+                    .doOnSuccess(value -> stop(sample, name, operation, "success", "none"))
+                    .doOnError(e -> stop(sample, name, operation, "error", errorCode(e)))
+                    .doOnCancel(() -> stop(sample, name, operation, "cancelled", "none"));
+        });
+    }
+
+    private <T> Flux<T> time(String name, String operation, Flux<T> source) {
+        return Flux.defer(() -> {
+            var sample = Timer.start(meterRegistry);
+            return source
+                    .doOnComplete(() -> stop(sample, name, operation, "success", "none"))
+                    .doOnError(e -> stop(sample, name, operation, "error", errorCode(e)))
+                    .doOnCancel(() -> stop(sample, name, operation, "cancelled", "none"));
+        });
+    }
+
+    // the tag combinations are few and fixed, so each timer is built and registered once instead of per call
+    private void stop(Timer.Sample sample, String name, String operation, String outcome, String code) {
+        sample.stop(timers.computeIfAbsent(new TimerKey(name, operation, outcome, code), this::register));
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(key.name())
+                .tag("operation", key.operation())
+                .tag("outcome", key.outcome())
+                .tag("code", key.code())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String errorCode(Throwable error) {
+        return error instanceof ApiException apiException ? apiException.getErrorCode() : error.getClass().getSimpleName();
+    }
+
+    private record TimerKey(String name, String operation, String outcome, String code) {
+    }
+}
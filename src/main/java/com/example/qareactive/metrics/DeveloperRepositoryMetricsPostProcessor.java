@@ -0,0 +1,41 @@
+package com.example.qareactive.metrics;
+
+import com.example.qareactive.repository.DeveloperRepository;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+public class DeveloperRepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<DeveloperMetrics> developerMetrics;
+
+    public DeveloperRepositoryMetricsPostProcessor(ObjectProvider<DeveloperMetrics> developerMetrics) {
+        this.developerMetrics = developerMetrics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DeveloperRepository)) {
+            return bean;
+        }
+        var proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(bean);
+        proxyFactory.addInterface(DeveloperRepository.class);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            var result = invocation.proceed();
+            var operation = invocation.getMethod().getName();
+            if (result instanceof Mono<?> mono) {
+                return developerMetrics.getObject().timeRepository(operation, mono);
+            } else if (result instanceof Flux<?> flux) {
+                return developerMetrics.getObject().timeRepository(operation, flux);
+            }
+            return result;
+        });
+        return proxyFactory.getProxy();
+    }
+}
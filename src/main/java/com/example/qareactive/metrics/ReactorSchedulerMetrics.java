@@ -0,0 +1,105 @@
+package com.example.qareactive.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+@Component
+public class ReactorSchedulerMetrics implements InitializingBean, DisposableBean {
+
+    private static final String DECORATOR_KEY = "qa-reactive.metrics";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SchedulerExecutors> schedulers = new ConcurrentHashMap<>();
+
+    public ReactorSchedulerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Schedulers.addExecutorServiceDecorator(DECORATOR_KEY, (scheduler, executorService) -> {
+            var schedulerName = Scannable.from(scheduler).scanOrDefault(Scannable.Attr.NAME, scheduler.toString());
+            schedulers.computeIfAbsent(schedulerName, this::register).add(executorService);
+            return executorService;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        Schedulers.removeExecutorServiceDecorator(DECORATOR_KEY);
+    }
+
+    // boundedElastic keeps creating and evicting workers, so meters are bound once per scheduler and sum its live
+    // executors; a shut down executor drops out of the sums and only its completed task count is kept
+    private SchedulerExecutors register(String schedulerName) {
+        var executors = new SchedulerExecutors();
+        var tags = Tags.of("scheduler", schedulerName);
+        Gauge.builder("reactor.scheduler.executors", executors, SchedulerExecutors::liveCount)
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("reactor.scheduler.pool.size", executors, e -> e.sum(ThreadPoolExecutor::getPoolSize))
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("reactor.scheduler.active", executors, e -> e.sum(ThreadPoolExecutor::getActiveCount))
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("reactor.scheduler.queued", executors, e -> e.sum(executor -> executor.getQueue().size()))
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("reactor.scheduler.completed", executors, SchedulerExecutors::completed)
+                .tags(tags)
+                .register(meterRegistry);
+        return executors;
+    }
+
+    private static final class SchedulerExecutors {
+
+        private final Set<ThreadPoolExecutor> live = ConcurrentHashMap.newKeySet();
+        private final AtomicLong retiredCompleted = new AtomicLong();
+
+        void add(ScheduledExecutorService executorService) {
+            prune();
+            if (executorService instanceof ThreadPoolExecutor executor) {
+                live.add(executor);
+            }
+        }
+
+        double liveCount() {
+            prune();
+            return live.size();
+        }
+
+        double sum(ToLongFunction<ThreadPoolExecutor> stat) {
+            prune();
+            return live.stream().mapToLong(stat).sum();
+        }
+
+        double completed() {
+            prune();
+            return retiredCompleted.get() + live.stream().mapToLong(ThreadPoolExecutor::getCompletedTaskCount).sum();
+        }
+
+        private void prune() {
+            for (ThreadPoolExecutor executor : live) {
+                if (executor.isTerminated() && live.remove(executor)) {
+                    retiredCompleted.addAndGet(executor.getCompletedTaskCount());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.qareactive.notification;
+
+import com.example.qareactive.entity.DeveloperEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeveloperChangeEvent {
+    private DeveloperChangeOperation operation;
+    private Integer id;
+    private Long version;
+    private DeveloperEntity developer;
+}
@@ -0,0 +1,92 @@
+package com.example.qareactive.notification;
+
+import com.example.qareactive.config.DeveloperChangesProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcConnectionDetails;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.SynchronousSink;
+import reactor.util.retry.Retry;
+
+@Slf4j
+@Component
+public class DeveloperChangeListener implements InitializingBean, DisposableBean {
+
+    private static final String CHANNEL = "developer_changes";
+
+    private final ConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final DeveloperChangesProperties properties;
+    private final Counter droppedChanges;
+    private final Sinks.Many<DeveloperChangeEvent> changes = Sinks.many().multicast().directBestEffort();
+    private Disposable subscription;
+
+    public DeveloperChangeListener(R2dbcConnectionDetails connectionDetails, ObjectMapper objectMapper,
+                                   DeveloperChangesProperties properties, MeterRegistry meterRegistry) {
+        // LISTEN is bound to the session, so it gets its own connection instead of holding one from the pool
+        this.connectionFactory = ConnectionFactories.get(connectionDetails.getConnectionFactoryOptions());
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.droppedChanges = Counter.builder("developers.changes.dropped")
+                .description("Change events dropped because a subscriber fell behind")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        subscription = Flux.usingWhen(Mono.from(connectionFactory.create()).cast(PostgresqlConnection.class),
+                        connection -> connection.createStatement("LISTEN " + CHANNEL)
+                                .execute()
+                                .flatMap(PostgresqlResult::getRowsUpdated)
+                                .thenMany(connection.getNotifications()),
+                        PostgresqlConnection::close)
+                .doOnError(e -> log.warn("Listener on {} failed, reconnecting", CHANNEL, e))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, properties.getReconnectMinBackoff())
+                        .maxBackoff(properties.getReconnectMaxBackoff())
+                        .transientErrors(true))
+                .handle(this::parse)
+                .subscribe(changes::tryEmitNext);
+    }
+
+    public Flux<DeveloperChangeEvent> changes() {
+        // the sink never waits for slow subscribers; each one gets its own bounded buffer instead
+        return changes.asFlux()
+                .onBackpressureBuffer(properties.getBufferSize(), dropped -> droppedChanges.increment(),
+                        properties.getOverflowStrategy());
+    }
+
+    private void parse(Notification notification, SynchronousSink<DeveloperChangeEvent> sink) {
+        if (notification.getParameter() == null) {
+            return;
+        }
+        try {
+            sink.next(objectMapper.readValue(notification.getParameter(), DeveloperChangeEvent.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping malformed {} payload", CHANNEL, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
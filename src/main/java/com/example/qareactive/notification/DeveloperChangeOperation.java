@@ -0,0 +1,8 @@
+package com.example.qareactive.notification;
+
+public enum DeveloperChangeOperation {
+    CREATE,
+    UPDATE,
+    SOFT_DELETE,
+    HARD_DELETE
+}
@@ -0,0 +1,94 @@
+package com.example.qareactive.repository;
+
+import com.example.qareactive.config.DeveloperLoaderProperties;
+import com.example.qareactive.config.ReadReplicaRouting;
+import com.example.qareactive.deadline.QueryCancellation;
+import com.example.qareactive.deadline.SharedQueryCancellation;
+import com.example.qareactive.entity.DeveloperEntity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+
+@Component
+public class DeveloperBatchLoader implements DisposableBean {
+
+    private final DeveloperRepository developerRepository;
+    private final DeveloperLoaderProperties properties;
+    private final DistributionSummary batchSizes;
+    private final Disposable subscription;
+    private FluxSink<PendingLoad> pendingLoads;
+
+    public DeveloperBatchLoader(DeveloperRepository developerRepository, DeveloperLoaderProperties properties, MeterRegistry meterRegistry) {
+        this.developerRepository = developerRepository;
+        this.properties = properties;
+        this.batchSizes = DistributionSummary.builder("developers.loader.batch.size")
+                .description("Number of findById lookups resolved by one batched query")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        // FluxSink serializes concurrent next() calls through a queue, so event loops enqueue without spinning;
+        // create() hands over the sink while subscribe() runs, before the constructor returns
+        this.subscription = Flux.<PendingLoad>create(sink -> pendingLoads = sink)
+                .bufferTimeout(properties.getMaxBatchSize(), properties.getWindow())
+                .onBackpressureBuffer()
+                .flatMap(this::loadBatch, properties.getMaxConcurrency())
+                .subscribe();
+    }
+
+    public Mono<DeveloperEntity> load(Integer id) {
+        if (!properties.isEnabled()) {
+            return developerRepository.findById(id)
+                    .contextWrite(ReadReplicaRouting.replica());
+        }
+        return Mono.deferContextual(context -> {
+            var pendingLoad = new PendingLoad(id, QueryCancellation.from(context), Sinks.one());
+            pendingLoads.next(pendingLoad);
+            return pendingLoad.result().asMono();
+        });
+    }
+
+    private Mono<Void> loadBatch(List<PendingLoad> batch) {
+        batchSizes.record(batch.size());
+        var ids = batch.stream()
+                .map(PendingLoad::id)
+                .distinct()
+                .toArray(Integer[]::new);
+        // the batch holds its own place while the waiters join, so one that already gave up cannot cancel it early
+        var waiters = new SharedQueryCancellation();
+        var hold = new QueryCancellation();
+        waiters.join(hold);
+        batch.forEach(pendingLoad -> waiters.join(pendingLoad.cancellation()));
+        hold.cancel();
+        // batches and cache misses run on their own subscriptions, so the loader opts into replica reads itself
+        return developerRepository.findAllByIds(ids)
+                .contextWrite(ReadReplicaRouting.replica())
+                .contextWrite(QueryCancellation.with(waiters.cancellation()))
+                .collectMap(DeveloperEntity::getId)
+                .doOnNext(developers -> batch.forEach(pendingLoad -> {
+                    var developer = developers.get(pendingLoad.id());
+                    if (developer != null) {
+                        pendingLoad.result().tryEmitValue(developer);
+                    } else {
+                        pendingLoad.result().tryEmitEmpty();
+                    }
+                }))
+                .doOnError(e -> batch.forEach(pendingLoad -> pendingLoad.result().tryEmitError(e)))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    @Override
+    public void destroy() {
+        subscription.dispose();
+    }
+
+    private record PendingLoad(Integer id, QueryCancellation cancellation, Sinks.One<DeveloperEntity> result) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.qareactive.repository;
+
+import io.r2dbc.spi.Row;
+
+final class DeveloperCsv {
+
+    static final String COLUMNS = "id,email,first_name,last_name,specialty,status,version";
+    static final String HEADER = COLUMNS + "\n";
+    private static final int COLUMN_COUNT = 7;
+
+    private DeveloperCsv() {
+    }
+
+    // mirrors COPY ... WITH (FORMAT csv): null is an empty field, an empty string is quoted
+    static void appendRow(StringBuilder csv, Row row) {
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            if (i > 0) {
+                csv.append(',');
+            }
+            var value = row.get(i);
+            if (value != null) {
+                appendField(csv, value.toString());
+            }
+        }
+        csv.append('\n');
+    }
+
+    private static void appendField(StringBuilder csv, String value) {
+        if (!value.isEmpty() && value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            csv.append(value);
+            return;
+        }
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        csv.append('"');
+    }
+}
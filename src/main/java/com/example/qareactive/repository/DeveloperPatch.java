@@ -0,0 +1,35 @@
+package com.example.qareactive.repository;
+
+import com.example.qareactive.entity.DeveloperEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+record DeveloperPatch(String sql, Map<String, Object> parameters) {
+
+    static DeveloperPatch of(Integer id, DeveloperEntity changes, Long expectedVersion) {
+        var parameters = new LinkedHashMap<String, Object>();
+        putIfPresent(parameters, "email", changes.getEmail());
+        putIfPresent(parameters, "first_name", changes.getFirstName());
+        putIfPresent(parameters, "last_name", changes.getLastName());
+        putIfPresent(parameters, "specialty", changes.getSpecialty());
+        putIfPresent(parameters, "status", changes.getStatus() == null ? null : changes.getStatus().name());
+
+        var sql = new StringBuilder("update developers set ");
+        parameters.keySet().forEach(column -> sql.append(column).append(" = :").append(column).append(", "));
+        sql.append("version = version + 1 where id = :id");
+        parameters.put("id", id);
+        if (expectedVersion != null) {
+            sql.append(" and version = :version");
+            parameters.put("version", expectedVersion);
+        }
+        sql.append(" returning *");
+        return new DeveloperPatch(sql.toString(), parameters);
+    }
+
+    private static void putIfPresent(Map<String, Object> parameters, String column, Object value) {
+        if (value != null) {
+            parameters.put(column, value);
+        }
+    }
+}
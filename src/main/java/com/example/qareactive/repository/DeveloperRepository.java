@@ -1,15 +1,66 @@
 package com.example.qareactive.repository;
 
 import com.example.qareactive.entity.DeveloperEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface DeveloperRepository extends R2dbcRepository<DeveloperEntity, Integer> {
+public interface DeveloperRepository extends R2dbcRepository<DeveloperEntity, Integer>, DeveloperRepositoryCustom {
 
+    String FIND_ALL_ACTIVE_BY_SPECIALTY = "select id, email, first_name, last_name, specialty, status from developers " +
+            "where status = 'ACTIVE' and specialty = :specialty and id > :afterId order by id limit :limit";
+
+    String FIND_BY_EMAIL = "select * from developers where lower(email) = lower(:email)";
+
+    String INSERT_IF_EMAIL_ABSENT = "with claimed as (insert into developer_emails (email, developer_id) " +
+            "select lower(:email), nextval('developers_id_seq') where cast(:email as varchar) is not null " +
+            "on conflict do nothing returning developer_id) " +
+            "insert into developers (id, email, first_name, last_name, specialty, status) " +
+            "select coalesce(claimed.developer_id, nextval('developers_id_seq')), :email, :firstName, :lastName, :specialty, 'ACTIVE' " +
+            "from (select 1) as candidate left join claimed on true " +
+            "where cast(:email as varchar) is null or claimed.developer_id is not null returning *";
+
+    String FIND_ALL_BY_IDS = "select * from developers where id = any(:ids)";
+
+    String FIND_ALL_AFTER = "select * from developers where id > :afterId order by id limit :limit";
+
+    String UPDATE_BY_ID = "update developers set email = :email, first_name = :firstName, last_name = :lastName, " +
+            "specialty = :specialty, status = :status, version = version + 1 where id = :id returning *";
+
+    String SOFT_DELETE_BY_ID = "update developers set status = 'DELETED', version = version + 1 where id = :id returning *";
+
+    String RESTORE_BY_ID = "update developers set status = 'ACTIVE', version = version + 1 " +
+            "where id = :id and status = 'DELETED' returning *";
+
+    String HARD_DELETE_BY_ID = "delete from developers where id = :id";
+
+    @Query(FIND_BY_EMAIL)
     Mono<DeveloperEntity> findByEmail(String email);
 
-    @Query("select d from developers d where d.status = 'ACTIVE' and d.specialty = ?1")
-    Flux<DeveloperEntity> findAllActiveBySpecialty(String specialty);
+    @Query(INSERT_IF_EMAIL_ABSENT)
+    Mono<DeveloperEntity> insertIfEmailAbsent(String email, String firstName, String lastName, String specialty);
+
+    @Query(FIND_ALL_ACTIVE_BY_SPECIALTY)
+    Flux<DeveloperEntity> findAllActiveBySpecialty(String specialty, int afterId, int limit);
+
+    @Query(FIND_ALL_BY_IDS)
+    Flux<DeveloperEntity> findAllByIds(Integer[] ids);
+
+    @Query(FIND_ALL_AFTER)
+    Flux<DeveloperEntity> findAllAfter(int afterId, int limit);
+
+    @Query(UPDATE_BY_ID)
+    Mono<DeveloperEntity> updateById(Integer id, String email, String firstName, String lastName, String specialty, String status);
+
+    @Query(SOFT_DELETE_BY_ID)
+    Mono<DeveloperEntity> softDeleteById(Integer id);
+
+    @Query(RESTORE_BY_ID)
+    Mono<DeveloperEntity> restoreById(Integer id);
+
+    @Modifying
+    @Query(HARD_DELETE_BY_ID)
+    Mono<Integer> hardDeleteById(Integer id);
 }
@@ -0,0 +1,49 @@
+package com.example.qareactive.repository;
+
+import com.example.qareactive.codec.DeveloperJson;
+import com.example.qareactive.entity.DeveloperEntity;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface DeveloperRepositoryCustom {
+
+    String SEARCH = "select * from (select d.*, greatest(word_similarity(:query, d.first_name), " +
+            "word_similarity(:query, d.last_name), word_similarity(:query, d.email)) as search_rank from developers d " +
+            "where d.first_name ilike :pattern or d.last_name ilike :pattern or d.email ilike :pattern) ranked " +
+            "where search_rank < :rank or (search_rank = :rank and id > :afterId) " +
+            "order by search_rank desc, id limit :limit";
+
+    String STREAM_ALL = "select " + DeveloperJson.COLUMNS + " from developers order by id";
+
+    String FIND_SPECIALTY_STATS = "select nullif(specialty, '') as specialty, nullif(status, '') as status, developer_count " +
+            "from developer_specialty_stats where developer_count > 0";
+
+    String EXPORT_CSV = "select id, email, first_name, last_name, specialty, status, version from developers order by id";
+
+    String IMPORT_CSV = "copy developers (email, first_name, last_name, specialty, status) from stdin with (format csv, header true)";
+
+    String FIND_EXISTING_EMAILS = "select lower(email) as email from developers where lower(email) = any(:emails)";
+
+    Flux<DataBuffer> streamAllNdjson(int fetchSize, DataBufferFactory bufferFactory);
+
+    Flux<String> findExistingEmails(Collection<String> emails);
+
+    Flux<Optional<Integer>> insertAll(List<DeveloperEntity> developers);
+
+    Mono<DeveloperEntity> patchById(Integer id, DeveloperEntity changes, Long expectedVersion);
+
+    Flux<DeveloperSearchResult> search(String query, float afterRank, int afterId, int limit);
+
+    Flux<DeveloperSpecialtyStats> findSpecialtyStats(String status);
+
+    Flux<DataBuffer> exportCsv(int fetchSize);
+
+    Mono<Long> importCsv(Publisher<DataBuffer> csv);
+}
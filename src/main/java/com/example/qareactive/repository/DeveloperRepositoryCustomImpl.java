@@ -0,0 +1,181 @@
+package com.example.qareactive.repository;
+
+import com.example.qareactive.codec.DeveloperJson;
+import com.example.qareactive.entity.DeveloperEntity;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.Wrapped;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class DeveloperRepositoryCustomImpl implements DeveloperRepositoryCustom {
+
+    // the email claim is the arbiter, a taken email inserts nothing and returns no id
+    private static final String INSERT_DEVELOPER =
+            "with claimed as (insert into developer_emails (email, developer_id) values (lower($1), nextval('developers_id_seq')) " +
+                    "on conflict do nothing returning developer_id) " +
+                    "insert into developers (id, email, first_name, last_name, specialty, status) " +
+                    "select developer_id, $1, $2, $3, $4, $5 from claimed";
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter r2dbcConverter;
+
+    @Override
+    public Flux<DataBuffer> streamAllNdjson(int fetchSize, DataBufferFactory bufferFactory) {
+        // each row is written from its wire values into the response's buffers, and a fetch worth of them goes out as one
+        // composite buffer; buffers still queued when the client goes away are released
+        return databaseClient.sql(STREAM_ALL)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map((row, metadata) -> DeveloperJson.toNdjson(bufferFactory, row))
+                .all()
+                .limitRate(fetchSize)
+                .buffer(fetchSize)
+                .map(bufferFactory::join)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    @Override
+    public Flux<String> findExistingEmails(Collection<String> emails) {
+        return databaseClient.sql(FIND_EXISTING_EMAILS)
+                .bind("emails", emails.stream().map(String::toLowerCase).toArray(String[]::new))
+                .map((row, metadata) -> row.get("email", String.class))
+                .all();
+    }
+
+    @Override
+    public Flux<Optional<Integer>> insertAll(List<DeveloperEntity> developers) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_DEVELOPER).returnGeneratedValues("id");
+            for (int i = 0; i < developers.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                var developer = developers.get(i);
+                bind(statement, 0, developer.getEmail());
+                bind(statement, 1, developer.getFirstName());
+                bind(statement, 2, developer.getLastName());
+                bind(statement, 3, developer.getSpecialty());
+                bind(statement, 4, developer.getStatus() == null ? null : developer.getStatus().name());
+            }
+            return Flux.from(statement.execute())
+                    .concatMap(result -> Mono.from(result.map((row, metadata) -> row.get("id", Integer.class)))
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty()));
+        });
+    }
+
+    @Override
+    public Mono<DeveloperEntity> patchById(Integer id, DeveloperEntity changes, Long expectedVersion) {
+        var patch = DeveloperPatch.of(id, changes, expectedVersion);
+        var spec = databaseClient.sql(patch.sql());
+        for (Map.Entry<String, Object> parameter : patch.parameters().entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec.map((row, metadata) -> r2dbcConverter.read(DeveloperEntity.class, row, metadata))
+                .one();
+    }
+
+    @Override
+    public Flux<DeveloperSearchResult> search(String query, float afterRank, int afterId, int limit) {
+        return databaseClient.sql(SEARCH)
+                .bind("query", query)
+                .bind("pattern", "%" + escapeLike(query) + "%")
+                .bind("rank", afterRank)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map((row, metadata) -> new DeveloperSearchResult(r2dbcConverter.read(DeveloperEntity.class, row, metadata),
+                        row.get("search_rank", Float.class)))
+                .all();
+    }
+
+    @Override
+    public Flux<DeveloperSpecialtyStats> findSpecialtyStats(String status) {
+        var spec = status == null
+                ? databaseClient.sql(FIND_SPECIALTY_STATS + " order by specialty, status")
+                : databaseClient.sql(FIND_SPECIALTY_STATS + " and status = :status order by specialty, status").bind("status", status);
+        return spec.map((row, metadata) -> new DeveloperSpecialtyStats(row.get("specialty", String.class),
+                        row.get("status", String.class), row.get("developer_count", Long.class)))
+                .all();
+    }
+
+    @Override
+    public Flux<DataBuffer> exportCsv(int fetchSize) {
+        // r2dbc-postgresql has no COPY TO STDOUT, so rows are encoded straight from the wire values, one buffer per fetch
+        var rows = databaseClient.sql(EXPORT_CSV)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map((row, metadata) -> {
+                    var csv = new StringBuilder(128);
+                    DeveloperCsv.appendRow(csv, row);
+                    return csv;
+                })
+                .all()
+                .limitRate(fetchSize)
+                .buffer(fetchSize)
+                .map(lines -> {
+                    var csv = new StringBuilder();
+                    lines.forEach(csv::append);
+                    return csv;
+                });
+        return Flux.concat(Mono.fromSupplier(() -> new StringBuilder(DeveloperCsv.HEADER)), rows)
+                .map(csv -> DefaultDataBufferFactory.sharedInstance.wrap(csv.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public Mono<Long> importCsv(Publisher<DataBuffer> csv) {
+        return databaseClient.inConnection(connection -> unwrap(connection)
+                .copyIn(IMPORT_CSV, Flux.from(csv).map(DeveloperRepositoryCustomImpl::toByteBuffer)));
+    }
+
+    // the DatabaseClient proxy and the pooled connection both wrap the driver connection that owns the COPY protocol
+    private static PostgresqlConnection unwrap(Connection connection) {
+        Object target = connection;
+        while (!(target instanceof PostgresqlConnection) && target instanceof Wrapped<?> wrapped) {
+            target = wrapped.unwrap();
+        }
+        if (target instanceof PostgresqlConnection postgresqlConnection) {
+            return postgresqlConnection;
+        }
+        throw new IllegalStateException("COPY requires a PostgreSQL connection, got " + connection.getClass().getName());
+    }
+
+    private static ByteBuffer toByteBuffer(DataBuffer buffer) {
+        try {
+            var bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return ByteBuffer.wrap(bytes);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private static void bind(Statement statement, int index, String value) {
+        if (value == null) {
+            statement.bindNull(index, String.class);
+        } else {
+            statement.bind(index, value);
+        }
+    }
+}
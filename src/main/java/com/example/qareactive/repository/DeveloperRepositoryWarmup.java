@@ -0,0 +1,73 @@
+package com.example.qareactive.repository;
+
+import com.example.qareactive.config.R2dbcWarmupProperties;
+import com.example.qareactive.config.ReadReplicaRoutingConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperRepositoryWarmup implements ApplicationRunner {
+
+    private final ConnectionFactory connectionFactory;
+    private final DeveloperRepository developerRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final R2dbcProperties r2dbcProperties;
+    private final R2dbcWarmupProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        var pool = r2dbcProperties.getPool();
+        int connections = Math.max(1, Math.max(pool.getInitialSize(), pool.getMinIdle()));
+        // runners complete before the readiness state flips to ACCEPTING_TRAFFIC, so blocking here keeps the pod out of rotation
+        try {
+            var warmed = warmupPool()
+                    .thenMany(Flux.range(0, connections)
+                            .flatMap(i -> transactionalOperator.execute(status -> {
+                                status.setRollbackOnly();
+                                return prepareHotStatements();
+                            }), connections))
+                    .count()
+                    .block(properties.getTimeout());
+            log.info("Warmed up {} R2DBC connections", warmed);
+        } catch (RuntimeException e) {
+            log.warn("R2DBC warm-up did not complete, continuing startup", e);
+        }
+    }
+
+    private Mono<Integer> warmupPool() {
+        if (connectionFactory instanceof ReadReplicaRoutingConnectionFactory routingConnectionFactory) {
+            return routingConnectionFactory.warmup();
+        } else if (connectionFactory instanceof ConnectionPool connectionPool) {
+            return connectionPool.warmup();
+        } else if (connectionFactory instanceof Wrapped<?> wrapped && wrapped.unwrap() instanceof ConnectionPool connectionPool) {
+            return connectionPool.warmup();
+        }
+        return Mono.just(0);
+    }
+
+    // each transaction pins its own pooled connection, so every warmed connection parses and caches these statements
+    private Mono<Boolean> prepareHotStatements() {
+        return developerRepository.findAllByIds(new Integer[]{0}).then()
+                .then(developerRepository.findAllAfter(0, 1).then())
+                .then(developerRepository.findAllActiveBySpecialty("", 0, 1).then())
+                .then(developerRepository.findByEmail("").then())
+                .then(developerRepository.updateById(0, null, null, null, null, null).then())
+                .then(developerRepository.softDeleteById(0).then())
+                .then(developerRepository.existsById(0));
+    }
+}
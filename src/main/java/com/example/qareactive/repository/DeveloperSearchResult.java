@@ -0,0 +1,6 @@
+package com.example.qareactive.repository;
+
+import com.example.qareactive.entity.DeveloperEntity;
+
+public record DeveloperSearchResult(DeveloperEntity developer, float rank) {
+}
@@ -0,0 +1,4 @@
+package com.example.qareactive.repository;
+
+public record DeveloperSpecialtyStats(String specialty, String status, long count) {
+}
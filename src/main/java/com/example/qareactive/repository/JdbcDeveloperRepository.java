@@ -0,0 +1,239 @@
+package com.example.qareactive.repository;
+
+import com.example.qareactive.entity.DeveloperEntity;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("jdbc")
+@RequiredArgsConstructor
+public class JdbcDeveloperRepository {
+
+    private static final String FIND_BY_ID = "select * from developers where id = :id";
+
+    private static final String EXPORT_CSV = "copy (" + DeveloperRepositoryCustom.EXPORT_CSV + ") to stdout with (format csv, header true)";
+
+    private static final String STREAM_ALL = "select * from developers order by id";
+
+    private static final RowMapper<DeveloperEntity> DEVELOPER_ROW_MAPPER = new BeanPropertyRowMapper<>(DeveloperEntity.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<DeveloperEntity> findById(Integer id) {
+        return one(FIND_BY_ID, Map.of("id", id));
+    }
+
+    public boolean existsById(Integer id) {
+        return findById(id).isPresent();
+    }
+
+    public Optional<DeveloperEntity> insertIfEmailAbsent(String email, String firstName, String lastName, String specialty) {
+        var parameters = new MapSqlParameterSource()
+                .addValue("email", email)
+                .addValue("firstName", firstName)
+                .addValue("lastName", lastName)
+                .addValue("specialty", specialty);
+        return one(DeveloperRepository.INSERT_IF_EMAIL_ABSENT, parameters);
+    }
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        var lowerCaseEmails = emails.stream().map(String::toLowerCase).toArray(String[]::new);
+        return new HashSet<>(jdbcTemplate.queryForList(DeveloperRepositoryCustom.FIND_EXISTING_EMAILS,
+                Map.of("emails", new SqlParameterValue(Types.ARRAY, lowerCaseEmails)), String.class));
+    }
+
+    public List<DeveloperEntity> findAllAfter(int afterId, int limit) {
+        return jdbcTemplate.query(DeveloperRepository.FIND_ALL_AFTER, Map.of("afterId", afterId, "limit", limit), DEVELOPER_ROW_MAPPER);
+    }
+
+    public List<DeveloperEntity> findAllActiveBySpecialty(String specialty, int afterId, int limit) {
+        return jdbcTemplate.query(DeveloperRepository.FIND_ALL_ACTIVE_BY_SPECIALTY,
+                Map.of("specialty", specialty, "afterId", afterId, "limit", limit), DEVELOPER_ROW_MAPPER);
+    }
+
+    // the driver only honours the fetch size with autocommit off, so the stream holds a read-only transaction until it is closed
+    public Stream<DeveloperEntity> streamAll(int fetchSize) {
+        var dataSource = jdbcTemplate.getJdbcTemplate().getDataSource();
+        var connection = DataSourceUtils.getConnection(dataSource);
+        PreparedStatement statement = null;
+        try {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            statement = connection.prepareStatement(STREAM_ALL);
+            statement.setFetchSize(fetchSize);
+            var resultSet = statement.executeQuery();
+            var cursor = statement;
+            return Stream.generate(() -> nextDeveloper(resultSet))
+                    .takeWhile(Objects::nonNull)
+                    .onClose(() -> {
+                        JdbcUtils.closeStatement(cursor);
+                        releaseReadOnly(connection, dataSource);
+                    });
+        } catch (SQLException e) {
+            JdbcUtils.closeStatement(statement);
+            releaseReadOnly(connection, dataSource);
+            throw translate("streamAll", STREAM_ALL, e);
+        }
+    }
+
+    public List<DeveloperSearchResult> search(String query, float afterRank, int afterId, int limit) {
+        var parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("pattern", "%" + DeveloperRepositoryCustomImpl.escapeLike(query) + "%")
+                .addValue("rank", afterRank)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(DeveloperRepositoryCustom.SEARCH, parameters, (resultSet, rowNum) ->
+                new DeveloperSearchResult(DEVELOPER_ROW_MAPPER.mapRow(resultSet, rowNum), resultSet.getFloat("search_rank")));
+    }
+
+    public List<DeveloperSpecialtyStats> findSpecialtyStats(String status) {
+        RowMapper<DeveloperSpecialtyStats> rowMapper = (resultSet, rowNum) -> new DeveloperSpecialtyStats(
+                resultSet.getString("specialty"), resultSet.getString("status"), resultSet.getLong("developer_count"));
+        if (status == null) {
+            return jdbcTemplate.query(DeveloperRepositoryCustom.FIND_SPECIALTY_STATS + " order by specialty, status", rowMapper);
+        }
+        return jdbcTemplate.query(DeveloperRepositoryCustom.FIND_SPECIALTY_STATS + " and status = :status order by specialty, status",
+                Map.of("status", status), rowMapper);
+    }
+
+    public Optional<DeveloperEntity> updateById(Integer id, String email, String firstName, String lastName, String specialty, String status) {
+        var parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("email", email)
+                .addValue("firstName", firstName)
+                .addValue("lastName", lastName)
+                .addValue("specialty", specialty)
+                .addValue("status", status);
+        return one(DeveloperRepository.UPDATE_BY_ID, parameters);
+    }
+
+    public Optional<DeveloperEntity> patchById(Integer id, DeveloperEntity changes, Long expectedVersion) {
+        var patch = DeveloperPatch.of(id, changes, expectedVersion);
+        return one(patch.sql(), new MapSqlParameterSource(patch.parameters()));
+    }
+
+    public Optional<DeveloperEntity> softDeleteById(Integer id) {
+        return one(DeveloperRepository.SOFT_DELETE_BY_ID, Map.of("id", id));
+    }
+
+    public Optional<DeveloperEntity> restoreById(Integer id) {
+        return one(DeveloperRepository.RESTORE_BY_ID, Map.of("id", id));
+    }
+
+    public int hardDeleteById(Integer id) {
+        return jdbcTemplate.update(DeveloperRepository.HARD_DELETE_BY_ID, Map.of("id", id));
+    }
+
+    // COPY hands over one CopyData message per row and the stream only reads on demand; closing it releases the connection
+    public Stream<byte[]> exportCsv() {
+        var dataSource = jdbcTemplate.getJdbcTemplate().getDataSource();
+        var connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            var copyOut = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(EXPORT_CSV);
+            return Stream.iterate(readFromCopy(copyOut), Objects::nonNull, previous -> readFromCopy(copyOut))
+                    .onClose(() -> {
+                        try {
+                            if (copyOut.isActive()) {
+                                copyOut.cancelCopy();
+                            }
+                        } catch (SQLException e) {
+                            throw translate(e);
+                        } finally {
+                            DataSourceUtils.releaseConnection(connection, dataSource);
+                        }
+                    });
+        } catch (SQLException e) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw translate(e);
+        }
+    }
+
+    public long importCsv(Iterable<byte[]> csv) {
+        return jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Long>) connection -> {
+            var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(DeveloperRepositoryCustom.IMPORT_CSV);
+            try {
+                for (byte[] chunk : csv) {
+                    copyIn.writeToCopy(chunk, 0, chunk.length);
+                }
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+    }
+
+    private byte[] readFromCopy(CopyOut copyOut) {
+        try {
+            return copyOut.readFromCopy();
+        } catch (SQLException e) {
+            throw translate(e);
+        }
+    }
+
+    private DeveloperEntity nextDeveloper(ResultSet resultSet) {
+        try {
+            return resultSet.next() ? DEVELOPER_ROW_MAPPER.mapRow(resultSet, resultSet.getRow()) : null;
+        } catch (SQLException e) {
+            throw translate("streamAll", STREAM_ALL, e);
+        }
+    }
+
+    private void releaseReadOnly(Connection connection, DataSource dataSource) {
+        try {
+            connection.rollback();
+            connection.setReadOnly(false);
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            throw translate("streamAll", STREAM_ALL, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private RuntimeException translate(SQLException e) {
+        return translate("COPY", EXPORT_CSV, e);
+    }
+
+    private RuntimeException translate(String task, String sql, SQLException e) {
+        var translated = jdbcTemplate.getJdbcTemplate().getExceptionTranslator().translate(task, sql, e);
+        return translated != null ? translated : new UncategorizedSQLException(task, sql, e);
+    }
+
+    private Optional<DeveloperEntity> one(String sql, Map<String, ?> parameters) {
+        return one(sql, new MapSqlParameterSource(parameters));
+    }
+
+    private Optional<DeveloperEntity> one(String sql, MapSqlParameterSource parameters) {
+        return jdbcTemplate.query(sql, parameters, DEVELOPER_ROW_MAPPER).stream().findFirst();
+    }
+}
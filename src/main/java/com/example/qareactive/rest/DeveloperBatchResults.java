@@ -0,0 +1,28 @@
+package com.example.qareactive.rest;
+
+import com.example.qareactive.dto.DeveloperBatchResultDto;
+import com.example.qareactive.dto.DeveloperDto;
+import com.example.qareactive.errorhandling.AppErrorAttributes;
+import com.example.qareactive.service.DeveloperBatchItem;
+import org.springframework.http.HttpStatus;
+
+final class DeveloperBatchResults {
+
+    private DeveloperBatchResults() {
+    }
+
+    static DeveloperBatchResultDto of(DeveloperBatchItem item, AppErrorAttributes appErrorAttributes) {
+        if (item.isSuccess()) {
+            return DeveloperBatchResultDto.builder()
+                    .index(item.getIndex())
+                    .status(HttpStatus.OK.value())
+                    .developer(DeveloperDto.fromEntity(item.getDeveloper()))
+                    .build();
+        }
+        return DeveloperBatchResultDto.builder()
+                .index(item.getIndex())
+                .status(appErrorAttributes.getStatus(item.getError()).value())
+                .errors(appErrorAttributes.getErrors(item.getError()))
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.qareactive.rest;
+
+import com.example.qareactive.dto.DeveloperChangeDto;
+import com.example.qareactive.notification.DeveloperChangeEvent;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+final class DeveloperChangeStreams {
+
+    private DeveloperChangeStreams() {
+    }
+
+    static boolean acceptsNdjson(HttpHeaders headers) {
+        return headers.getAccept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+
+    static Flux<DeveloperChangeDto> ndjson(Flux<DeveloperChangeEvent> changes) {
+        return changes.map(DeveloperChangeDto::fromEvent);
+    }
+
+    // the immediate heartbeat commits the response headers, and later ones keep idle proxies from closing the stream
+    static Flux<ServerSentEvent<DeveloperChangeDto>> serverSentEvents(Flux<DeveloperChangeEvent> changes, Duration heartbeat) {
+        var events = changes.map(DeveloperChangeDto::fromEvent)
+                .map(change -> ServerSentEvent.builder(change)
+                        .event(change.getOperation().name())
+                        .build());
+        var heartbeats = Flux.interval(Duration.ZERO, heartbeat)
+                .map(tick -> ServerSentEvent.<DeveloperChangeDto>builder()
+                        .comment("heartbeat")
+                        .build());
+        return Flux.merge(events, heartbeats);
+    }
+}
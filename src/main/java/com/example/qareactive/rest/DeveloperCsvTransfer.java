@@ -0,0 +1,19 @@
+package com.example.qareactive.rest;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+
+// GET /export writes id,email,first_name,last_name,specialty,status,version so a backup keeps ids and versions, while
+// POST /import takes only email,first_name,last_name,specialty,status and assigns fresh ids; an export is not importable
+// as is and is rejected with DEVELOPER_IMPORT_INVALID until the id and version columns are dropped
+final class DeveloperCsvTransfer {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+    static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+    static final ContentDisposition EXPORT_DISPOSITION = ContentDisposition.attachment()
+            .filename("developers.csv")
+            .build();
+
+    private DeveloperCsvTransfer() {
+    }
+}
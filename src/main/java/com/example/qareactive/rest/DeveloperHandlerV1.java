@@ -0,0 +1,180 @@
+package com.example.qareactive.rest;
+
+import com.example.qareactive.config.DeveloperChangesProperties;
+import com.example.qareactive.config.DeveloperPaginationProperties;
+import com.example.qareactive.dto.DeveloperBatchResultDto;
+import com.example.qareactive.dto.DeveloperChangeDto;
+import com.example.qareactive.dto.DeveloperDto;
+import com.example.qareactive.dto.DeveloperImportResultDto;
+import com.example.qareactive.dto.DeveloperSpecialtyStatsDto;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.errorhandling.AppErrorAttributes;
+import com.example.qareactive.service.DeveloperService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.web.mode", havingValue = "functional")
+public class DeveloperHandlerV1 {
+
+    private final DeveloperService developerService;
+    private final DeveloperPaginationProperties paginationProperties;
+    private final DeveloperChangesProperties changesProperties;
+    private final AppErrorAttributes appErrorAttributes;
+
+    public Mono<ServerResponse> createDeveloper(ServerRequest request) {
+        return request.bodyToMono(DeveloperDto.class)
+                .flatMap(dto -> developerService.createDeveloper(dto.toEntity()))
+                .flatMap(entity -> ServerResponse.ok().bodyValue(DeveloperDto.fromEntity(entity)));
+    }
+
+    public Mono<ServerResponse> createDevelopers(ServerRequest request) {
+        var results = developerService.createDevelopers(request.bodyToFlux(DeveloperDto.class).map(DeveloperDto::toEntity))
+                .map(item -> DeveloperBatchResults.of(item, appErrorAttributes));
+        return ServerResponse.ok().body(results, DeveloperBatchResultDto.class);
+    }
+
+    public Mono<ServerResponse> updateDeveloper(ServerRequest request) {
+        return request.bodyToMono(DeveloperDto.class)
+                .flatMap(dto -> developerService.updateDeveloper(dto.toEntity()))
+                .flatMap(entity -> ServerResponse.ok().bodyValue(DeveloperDto.fromEntity(entity)));
+    }
+
+    public Mono<ServerResponse> patchDeveloper(ServerRequest request) {
+        var id = id(request);
+        var expectedVersion = ETags.parseVersion(request.headers().firstHeader(HttpHeaders.IF_MATCH));
+        return request.bodyToMono(DeveloperDto.class)
+                .flatMap(dto -> developerService.patchDeveloper(id, dto.toEntity(), expectedVersion))
+                .flatMap(this::okWithETag);
+    }
+
+    public Mono<ServerResponse> restoreDeveloper(ServerRequest request) {
+        return developerService.restoreById(id(request))
+                .flatMap(this::okWithETag);
+    }
+
+    public Mono<ServerResponse> getAllDevelopers(ServerRequest request) {
+        int pageSize = paginationProperties.resolveLimit(limit(request));
+        return developerService.getAll(Pagination.decodeIdToken(request.queryParam("after").orElse(null)), pageSize)
+                .map(DeveloperDto::fromEntity)
+                .collectList()
+                .flatMap(page -> page(request, page, pageSize).body(Flux.fromIterable(page), DeveloperDto.class));
+    }
+
+    public Mono<ServerResponse> streamAllDevelopers(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body((response, context) -> response.writeWith(developerService.streamAllNdjson(response.bufferFactory())));
+    }
+
+    public Mono<ServerResponse> exportDevelopers(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(DeveloperCsvTransfer.TEXT_CSV)
+                .headers(headers -> headers.setContentDisposition(DeveloperCsvTransfer.EXPORT_DISPOSITION))
+                .body(BodyInserters.fromDataBuffers(developerService.exportCsv()));
+    }
+
+    public Mono<ServerResponse> importDevelopers(ServerRequest request) {
+        return developerService.importCsv(request.body(BodyExtractors.toDataBuffers()))
+                .flatMap(imported -> ServerResponse.ok().bodyValue(DeveloperImportResultDto.builder().imported(imported).build()));
+    }
+
+    public Mono<ServerResponse> streamChanges(ServerRequest request) {
+        if (DeveloperChangeStreams.acceptsNdjson(request.headers().asHttpHeaders())) {
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(DeveloperChangeStreams.ndjson(developerService.getChanges()), DeveloperChangeDto.class);
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(BodyInserters.fromServerSentEvents(
+                        DeveloperChangeStreams.serverSentEvents(developerService.getChanges(), changesProperties.getHeartbeat())));
+    }
+
+    public Mono<ServerResponse> search(ServerRequest request) {
+        int pageSize = paginationProperties.resolveLimit(limit(request));
+        var cursor = Pagination.decodeRankToken(request.queryParam("after").orElse(null));
+        return developerService.search(request.queryParam("q").orElse(null), cursor.rank(), cursor.afterId(), pageSize)
+                .collectList()
+                .flatMap(results -> {
+                    var response = ServerResponse.ok();
+                    var link = Pagination.nextLink(results, pageSize, request.uri(),
+                            result -> Pagination.encodeToken(result.rank(), result.developer().getId()));
+                    if (link != null) {
+                        response.header(HttpHeaders.LINK, link);
+                    }
+                    return response.body(Flux.fromIterable(results)
+                            .map(result -> DeveloperDto.fromEntity(result.developer())), DeveloperDto.class);
+                });
+    }
+
+    public Mono<ServerResponse> getSpecialtyStats(ServerRequest request) {
+        var status = StatusParam.parse(request.queryParam("status").orElse(null));
+        return ServerResponse.ok()
+                .body(developerService.getSpecialtyStats(status).map(DeveloperSpecialtyStatsDto::fromStats), DeveloperSpecialtyStatsDto.class);
+    }
+
+    public Mono<ServerResponse> getAllBySpecialty(ServerRequest request) {
+        int pageSize = paginationProperties.resolveLimit(limit(request));
+        return developerService.findAllActiveBySpecialty(request.pathVariable("specialty"),
+                        Pagination.decodeIdToken(request.queryParam("after").orElse(null)), pageSize)
+                .collectList()
+                .flatMap(developers -> {
+                    var page = developers.stream()
+                            .map(DeveloperDto::fromEntity)
+                            .toList();
+                    return page(request, page, pageSize)
+                            .eTag(ETags.of(developers))
+                            .body(Flux.fromIterable(page), DeveloperDto.class);
+                });
+    }
+
+    public Mono<ServerResponse> getById(ServerRequest request) {
+        return developerService.getById(id(request))
+                .flatMap(this::okWithETag);
+    }
+
+    public Mono<ServerResponse> deleteById(ServerRequest request) {
+        var id = id(request);
+        var isHard = request.queryParam("isHard").map(Boolean::parseBoolean).orElse(false);
+        var delete = isHard ? developerService.hardDeleteById(id) : developerService.softDeleteById(id);
+        return delete.then(ServerResponse.ok().build());
+    }
+
+    private Mono<ServerResponse> okWithETag(DeveloperEntity entity) {
+        var response = ServerResponse.ok();
+        if (entity.getVersion() != null) {
+            response.eTag(ETags.of(entity));
+        }
+        return response.bodyValue(DeveloperDto.fromEntity(entity));
+    }
+
+    private static ServerResponse.BodyBuilder page(ServerRequest request, List<DeveloperDto> page, int pageSize) {
+        var response = ServerResponse.ok();
+        var link = Pagination.nextLink(page, pageSize, request.uri(), dto -> Pagination.encodeToken(dto.getId()));
+        if (link != null) {
+            response.header(HttpHeaders.LINK, link);
+        }
+        return response;
+    }
+
+    private static Integer id(ServerRequest request) {
+        return Integer.valueOf(request.pathVariable("id"));
+    }
+
+    private static Integer limit(ServerRequest request) {
+        return request.queryParam("limit").map(Integer::valueOf).orElse(null);
+    }
+}
@@ -1,18 +1,37 @@
 package com.example.qareactive.rest;
 
+import com.example.qareactive.config.DeveloperChangesProperties;
+import com.example.qareactive.config.DeveloperPaginationProperties;
+import com.example.qareactive.dto.DeveloperBatchResultDto;
 import com.example.qareactive.dto.DeveloperDto;
+import com.example.qareactive.dto.DeveloperImportResultDto;
+import com.example.qareactive.dto.DeveloperSpecialtyStatsDto;
+import com.example.qareactive.errorhandling.AppErrorAttributes;
 import com.example.qareactive.service.DeveloperService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.web.mode", havingValue = "annotated", matchIfMissing = true)
 @RequestMapping("/api/v1/developers")
 public class DeveloperRestControllerV1 {
 
     private final DeveloperService developerService;
+    private final DeveloperPaginationProperties paginationProperties;
+    private final DeveloperChangesProperties changesProperties;
+    private final AppErrorAttributes appErrorAttributes;
 
     @PostMapping
     public Mono<?> createDeveloper(@RequestBody DeveloperDto developerDto) {
@@ -20,28 +39,114 @@ public class DeveloperRestControllerV1 {
                 .flatMap(developer -> Mono.just(DeveloperDto.fromEntity(developer)));
     }
 
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<DeveloperBatchResultDto> createDevelopers(@RequestBody Flux<DeveloperDto> developers) {
+        return developerService.createDevelopers(developers.map(DeveloperDto::toEntity))
+                .map(item -> DeveloperBatchResults.of(item, appErrorAttributes));
+    }
+
     @PutMapping
     public Mono<?> updateDeveloper(@RequestBody DeveloperDto developerDto) {
         return developerService.updateDeveloper(developerDto.toEntity())
                 .flatMap(entity -> Mono.just(DeveloperDto.fromEntity(entity)));
     }
 
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<DeveloperDto>> patchDeveloper(@PathVariable("id") Integer id,
+                                                             @RequestBody DeveloperDto developerDto,
+                                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return developerService.patchDeveloper(id, developerDto.toEntity(), ETags.parseVersion(ifMatch))
+                .map(entity -> ETags.ok(entity, DeveloperDto.fromEntity(entity)));
+    }
+
+    @PostMapping("/{id}/restore")
+    public Mono<ResponseEntity<DeveloperDto>> restoreDeveloper(@PathVariable("id") Integer id) {
+        return developerService.restoreById(id)
+                .map(entity -> ETags.ok(entity, DeveloperDto.fromEntity(entity)));
+    }
+
     @GetMapping
-    public Flux<?> getAllDevelopers() {
-        return developerService.getAll()
-                .flatMap(entity -> Mono.just(DeveloperDto.fromEntity(entity)));
+    public Mono<ResponseEntity<List<DeveloperDto>>> getAllDevelopers(@RequestParam(value = "limit", required = false) Integer limit,
+                                                                     @RequestParam(value = "after", required = false) String after,
+                                                                     ServerHttpRequest request) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        return developerService.getAll(Pagination.decodeIdToken(after), pageSize)
+                .map(DeveloperDto::fromEntity)
+                .collectList()
+                .map(page -> Pagination.page(page, pageSize, request.getURI(), dto -> Pagination.encodeToken(dto.getId())));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DataBuffer> streamAllDevelopers(ServerHttpResponse response) {
+        return developerService.streamAllNdjson(response.bufferFactory());
+    }
+
+    // both directions stream DataBuffers between the HTTP body and the database without mapping rows to entities
+    @GetMapping(value = "/export", produces = DeveloperCsvTransfer.TEXT_CSV_VALUE)
+    public ResponseEntity<Flux<DataBuffer>> exportDevelopers() {
+        return ResponseEntity.ok()
+                .headers(headers -> headers.setContentDisposition(DeveloperCsvTransfer.EXPORT_DISPOSITION))
+                .body(developerService.exportCsv());
+    }
+
+    @PostMapping(value = "/import", consumes = DeveloperCsvTransfer.TEXT_CSV_VALUE)
+    public Mono<DeveloperImportResultDto> importDevelopers(ServerHttpRequest request) {
+        return developerService.importCsv(request.getBody())
+                .map(imported -> DeveloperImportResultDto.builder().imported(imported).build());
+    }
+
+    @GetMapping(value = "/changes", produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<?> streamChanges(ServerHttpRequest request) {
+        if (DeveloperChangeStreams.acceptsNdjson(request.getHeaders())) {
+            return DeveloperChangeStreams.ndjson(developerService.getChanges());
+        }
+        return DeveloperChangeStreams.serverSentEvents(developerService.getChanges(), changesProperties.getHeartbeat());
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<List<DeveloperDto>>> search(@RequestParam(value = "q", required = false) String query,
+                                                           @RequestParam(value = "limit", required = false) Integer limit,
+                                                           @RequestParam(value = "after", required = false) String after,
+                                                           ServerHttpRequest request) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        var cursor = Pagination.decodeRankToken(after);
+        return developerService.search(query, cursor.rank(), cursor.afterId(), pageSize)
+                .collectList()
+                .map(results -> Pagination.pageBuilder(results, pageSize, request.getURI(),
+                                result -> Pagination.encodeToken(result.rank(), result.developer().getId()))
+                        .body(results.stream()
+                                .map(result -> DeveloperDto.fromEntity(result.developer()))
+                                .toList()));
+    }
+
+    @GetMapping("/stats")
+    public Flux<DeveloperSpecialtyStatsDto> getSpecialtyStats(@RequestParam(value = "status", required = false) String status) {
+        return developerService.getSpecialtyStats(StatusParam.parse(status))
+                .map(DeveloperSpecialtyStatsDto::fromStats);
     }
 
     @GetMapping("/specialty/{specialty}")
-    public Flux<?> getAllBySpecialty(@PathVariable("specialty") String specialty) {
-        return developerService.findAllActiveBySpecialty(specialty)
-                .flatMap(entity -> Mono.just(DeveloperDto.fromEntity(entity)));
+    public Mono<ResponseEntity<List<DeveloperDto>>> getAllBySpecialty(@PathVariable("specialty") String specialty,
+                                                                      @RequestParam(value = "limit", required = false) Integer limit,
+                                                                      @RequestParam(value = "after", required = false) String after,
+                                                                      ServerHttpRequest request) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        return developerService.findAllActiveBySpecialty(specialty, Pagination.decodeIdToken(after), pageSize)
+                .collectList()
+                .map(developers -> {
+                    var page = developers.stream()
+                            .map(DeveloperDto::fromEntity)
+                            .toList();
+                    return Pagination.pageBuilder(page, pageSize, request.getURI(), dto -> Pagination.encodeToken(dto.getId()))
+                            .eTag(ETags.of(developers))
+                            .body(page);
+                });
     }
 
     @GetMapping("/{id}")
-    public Mono<?> getAllBySpecialty(@PathVariable("id") Integer id) {
+    public Mono<ResponseEntity<DeveloperDto>> getAllBySpecialty(@PathVariable("id") Integer id) {
         return developerService.getById(id)
-                .flatMap(entity -> Mono.just(DeveloperDto.fromEntity(entity)));
+                .map(entity -> ETags.ok(entity, DeveloperDto.fromEntity(entity)));
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,46 @@
+package com.example.qareactive.rest;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.web.mode", havingValue = "functional")
+public class DeveloperRouterV1 {
+
+    private static final String BASE_PATH = "/api/v1/developers";
+
+    @Bean
+    public RouterFunction<ServerResponse> developerRoutes(DeveloperHandlerV1 handler) {
+        return RouterFunctions.route()
+                .POST(BASE_PATH + "/batch", RequestPredicates.contentType(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON),
+                        handler::createDevelopers)
+                .POST(BASE_PATH + "/import", RequestPredicates.contentType(DeveloperCsvTransfer.TEXT_CSV), handler::importDevelopers)
+                .POST(BASE_PATH + "/{id}/restore", handler::restoreDeveloper)
+                .POST(BASE_PATH, handler::createDeveloper)
+                .PUT(BASE_PATH, handler::updateDeveloper)
+                .PATCH(BASE_PATH + "/{id}", handler::patchDeveloper)
+                .GET(BASE_PATH, acceptsNdjson(), handler::streamAllDevelopers)
+                .GET(BASE_PATH, handler::getAllDevelopers)
+                .GET(BASE_PATH + "/export", handler::exportDevelopers)
+                .GET(BASE_PATH + "/changes", handler::streamChanges)
+                .GET(BASE_PATH + "/search", handler::search)
+                .GET(BASE_PATH + "/stats", handler::getSpecialtyStats)
+                .GET(BASE_PATH + "/specialty/{specialty}", handler::getAllBySpecialty)
+                .GET(BASE_PATH + "/{id}", handler::getById)
+                .DELETE(BASE_PATH + "/{id}", handler::deleteById)
+                .build();
+    }
+
+    // RequestPredicates.accept also matches */*, while the annotated controller only streams when NDJSON is asked for explicitly
+    private static RequestPredicate acceptsNdjson() {
+        return request -> request.headers().accept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.qareactive.rest;
+
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.exception.DeveloperVersionMismatchException;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(DeveloperEntity developer) {
+        return "\"" + developer.getVersion() + "\"";
+    }
+
+    public static String of(List<DeveloperEntity> developers) {
+        var buffer = ByteBuffer.allocate(developers.size() * (Integer.BYTES + Long.BYTES));
+        for (DeveloperEntity developer : developers) {
+            buffer.putInt(developer.getId() == null ? -1 : developer.getId());
+            buffer.putLong(developer.getVersion() == null ? -1 : developer.getVersion());
+        }
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(buffer.array());
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static <T> ResponseEntity<T> ok(DeveloperEntity developer, T body) {
+        var response = ResponseEntity.ok();
+        if (developer.getVersion() != null) {
+            response.eTag(of(developer));
+        }
+        return response.body(body);
+    }
+
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        var value = ifMatch.trim();
+        if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw versionMismatch();
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw versionMismatch();
+        }
+    }
+
+    private static DeveloperVersionMismatchException versionMismatch() {
+        return DeveloperVersionMismatchException.INSTANCE;
+    }
+}
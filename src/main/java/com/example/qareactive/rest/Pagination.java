@@ -0,0 +1,102 @@
+package com.example.qareactive.rest;
+
+import com.example.qareactive.exception.InvalidPageTokenException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public final class Pagination {
+
+    private static final String SEPARATOR = ":";
+
+    private Pagination() {
+    }
+
+    public static String encodeToken(Object... values) {
+        var joined = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                joined.append(SEPARATOR);
+            }
+            joined.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decodeToken(String token, int expectedParts) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var parts = decoded.split(SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw invalidToken();
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw invalidToken();
+        }
+    }
+
+    public static int decodeIdToken(String token) {
+        if (token == null || token.isBlank()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(decodeToken(token, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw invalidToken();
+        }
+    }
+
+    public static RankCursor decodeRankToken(String token) {
+        if (token == null || token.isBlank()) {
+            return RankCursor.FIRST;
+        }
+        var parts = decodeToken(token, 2);
+        try {
+            return new RankCursor(Float.parseFloat(parts[0]), Integer.parseInt(parts[1]));
+        } catch (NumberFormatException e) {
+            throw invalidToken();
+        }
+    }
+
+    public static <T> ResponseEntity<List<T>> page(List<T> content, int limit, URI requestUri, Function<T, String> nextToken) {
+        return pageBuilder(content, limit, requestUri, nextToken).body(content);
+    }
+
+    public static <T> ResponseEntity.BodyBuilder pageBuilder(List<T> content, int limit, URI requestUri, Function<T, String> nextToken) {
+        var response = ResponseEntity.ok();
+        var link = nextLink(content, limit, requestUri, nextToken);
+        if (link != null) {
+            response.header(HttpHeaders.LINK, link);
+        }
+        return response;
+    }
+
+    public static <T> String nextLink(List<T> content, int limit, URI requestUri, Function<T, String> nextToken) {
+        if (content.isEmpty() || content.size() < limit) {
+            return null;
+        }
+        var next = UriComponentsBuilder.fromUri(requestUri)
+                .replaceQueryParam("limit", limit)
+                .replaceQueryParam("after", nextToken.apply(content.get(content.size() - 1)))
+                .build(true)
+                .toUriString();
+        return "<" + next + ">; rel=\"next\"";
+    }
+
+    private static InvalidPageTokenException invalidToken() {
+        return InvalidPageTokenException.INSTANCE;
+    }
+
+    public record RankCursor(float rank, int afterId) {
+
+        public static final RankCursor FIRST = new RankCursor(Float.POSITIVE_INFINITY, 0);
+    }
+}
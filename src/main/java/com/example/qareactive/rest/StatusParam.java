@@ -0,0 +1,22 @@
+package com.example.qareactive.rest;
+
+import com.example.qareactive.entity.Status;
+import com.example.qareactive.exception.DeveloperValidationException;
+
+public final class StatusParam {
+
+    private StatusParam() {
+    }
+
+    // both web modes parse the filter here, so an unknown status is a 400 rather than a conversion failure
+    public static Status parse(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return Status.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw DeveloperValidationException.INVALID_STATUS;
+        }
+    }
+}
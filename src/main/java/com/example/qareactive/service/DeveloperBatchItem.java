@@ -0,0 +1,27 @@
+package com.example.qareactive.service;
+
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.exception.ApiException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DeveloperBatchItem {
+    private final long index;
+    private final DeveloperEntity developer;
+    private final ApiException error;
+
+    public static DeveloperBatchItem success(long index, DeveloperEntity developer) {
+        return new DeveloperBatchItem(index, developer, null);
+    }
+
+    public static DeveloperBatchItem failure(long index, ApiException error) {
+        return new DeveloperBatchItem(index, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
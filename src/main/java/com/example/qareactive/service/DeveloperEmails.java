@@ -0,0 +1,13 @@
+package com.example.qareactive.service;
+
+final class DeveloperEmails {
+
+    private DeveloperEmails() {
+    }
+
+    // developers_email_required rejects these in the database, so every write path, single or batch, answers
+    // DEVELOPER_EMAIL_REQUIRED before reaching it; a patch may still leave the email out to keep the current one
+    static boolean isMissing(String email) {
+        return email == null || email.isBlank();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.qareactive.service;
+
+import com.example.qareactive.exception.DeveloperValidationException;
+import com.example.qareactive.exception.DeveloperWithEmailAlreadyExistsException;
+import io.r2dbc.spi.R2dbcException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+final class DeveloperImportErrors {
+
+    private DeveloperImportErrors() {
+    }
+
+    // COPY rejects malformed rows with data exceptions (class 22) and invalid values with constraint violations (class 23)
+    static Throwable toImportError(Throwable e) {
+        if (e instanceof DuplicateKeyException) {
+            return DeveloperWithEmailAlreadyExistsException.INSTANCE;
+        }
+        var sqlState = sqlState(NestedExceptionUtils.getMostSpecificCause(e));
+        if (sqlState == null) {
+            return e;
+        } else if (sqlState.equals("23505")) {
+            return DeveloperWithEmailAlreadyExistsException.INSTANCE;
+        } else if (sqlState.startsWith("22") || sqlState.startsWith("23")) {
+            return DeveloperValidationException.INVALID_IMPORT;
+        }
+        return e;
+    }
+
+    private static String sqlState(Throwable cause) {
+        if (cause instanceof R2dbcException r2dbcException) {
+            return r2dbcException.getSqlState();
+        } else if (cause instanceof SQLException sqlException) {
+            return sqlException.getSQLState();
+        }
+        return null;
+    }
+}
@@ -2,20 +2,40 @@ package com.example.qareactive.service;
 
 
 import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.entity.Status;
+import com.example.qareactive.notification.DeveloperChangeEvent;
+import com.example.qareactive.repository.DeveloperSearchResult;
+import com.example.qareactive.repository.DeveloperSpecialtyStats;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface DeveloperService {
 
     Mono<DeveloperEntity> createDeveloper(DeveloperEntity developer);
+    Flux<DeveloperBatchItem> createDevelopers(Flux<DeveloperEntity> developers);
     Mono<DeveloperEntity> updateDeveloper(DeveloperEntity developer);
+    Mono<DeveloperEntity> patchDeveloper(Integer id, DeveloperEntity changes, Long expectedVersion);
 
-    Flux<DeveloperEntity> getAll();
+    Flux<DeveloperEntity> getAll(int afterId, int limit);
 
-    Flux<DeveloperEntity> findAllActiveBySpecialty(String specialty);
+    Flux<DataBuffer> streamAllNdjson(DataBufferFactory bufferFactory);
+
+    Flux<DataBuffer> exportCsv();
+    Mono<Long> importCsv(Flux<DataBuffer> csv);
+
+    Flux<DeveloperEntity> findAllActiveBySpecialty(String specialty, int afterId, int limit);
+
+    Flux<DeveloperSearchResult> search(String query, float afterRank, int afterId, int limit);
+
+    Flux<DeveloperSpecialtyStats> getSpecialtyStats(Status status);
 
     Mono<DeveloperEntity> getById(Integer id);
 
     Mono<Void> softDeleteById(Integer id);
     Mono<Void> hardDeleteById(Integer id);
+    Mono<DeveloperEntity> restoreById(Integer id);
+
+    Flux<DeveloperChangeEvent> getChanges();
 }
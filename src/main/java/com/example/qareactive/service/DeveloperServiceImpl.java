@@ -1,79 +1,251 @@
 package com.example.qareactive.service;
 
+import com.example.qareactive.cache.DeveloperCache;
+import com.example.qareactive.config.DeveloperBatchProperties;
+import com.example.qareactive.config.DeveloperPaginationProperties;
+import com.example.qareactive.config.DeveloperSearchProperties;
+import com.example.qareactive.config.ReadReplicaRouting;
+import com.example.qareactive.deadline.DeveloperDeadlines;
 import com.example.qareactive.entity.DeveloperEntity;
 import com.example.qareactive.entity.Status;
 import com.example.qareactive.exception.DeveloperNotFoundException;
+import com.example.qareactive.exception.DeveloperValidationException;
+import com.example.qareactive.exception.DeveloperVersionMismatchException;
 import com.example.qareactive.exception.DeveloperWithEmailAlreadyExistsException;
+import com.example.qareactive.metrics.DeveloperMetrics;
+import com.example.qareactive.notification.DeveloperChangeEvent;
+import com.example.qareactive.notification.DeveloperChangeListener;
+import com.example.qareactive.repository.DeveloperBatchLoader;
 import com.example.qareactive.repository.DeveloperRepository;
+import com.example.qareactive.repository.DeveloperSearchResult;
+import com.example.qareactive.repository.DeveloperSpecialtyStats;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
+@Profile("!jdbc")
 @RequiredArgsConstructor
 public class DeveloperServiceImpl implements DeveloperService {
 
     private final DeveloperRepository developerRepository;
+    private final DeveloperBatchLoader developerBatchLoader;
+    private final DeveloperCache developerCache;
+    private final DeveloperPaginationProperties paginationProperties;
+    private final DeveloperBatchProperties batchProperties;
+    private final DeveloperSearchProperties searchProperties;
+    private final DeveloperMetrics developerMetrics;
+    private final DeveloperDeadlines developerDeadlines;
+    private final DeveloperChangeListener developerChangeListener;
 
-    private Mono<Void> checkIfExistByEmail(String email) {
-        return developerRepository.findByEmail(email)
-                .flatMap(developerEntity -> {
-                    if (Objects.nonNull(developerEntity)) {
-                        return Mono.error(new DeveloperWithEmailAlreadyExistsException("Developer with defined email already exists", "DEVELOPER_DUPLICATE_EMAIL"));
-                    }
-                    return Mono.empty();
-                });
+    @Override
+    public Mono<DeveloperEntity> createDeveloper(DeveloperEntity developer) {
+        if (DeveloperEmails.isMissing(developer.getEmail())) {
+            return Mono.error(DeveloperValidationException.EMAIL_REQUIRED);
+        }
+        return bounded("createDeveloper", developerRepository.insertIfEmailAbsent(developer.getEmail(), developer.getFirstName(),
+                        developer.getLastName(), developer.getSpecialty())
+                .switchIfEmpty(Mono.error(DeveloperWithEmailAlreadyExistsException.INSTANCE))
+                .doOnNext(developerCache::put));
     }
 
     @Override
-    public Mono<DeveloperEntity> createDeveloper(DeveloperEntity developer) {
-        return checkIfExistByEmail(developer.getEmail())
-                .then(Mono.defer(() -> {
+    public Flux<DeveloperBatchItem> createDevelopers(Flux<DeveloperEntity> developers) {
+        return developerMetrics.timeService("createDevelopers", developers.index()
+                .buffer(batchProperties.getSize())
+                .concatMap(this::createBatch));
+    }
+
+    private Flux<DeveloperBatchItem> createBatch(List<Tuple2<Long, DeveloperEntity>> batch) {
+        var emails = batch.stream()
+                .map(item -> item.getT2().getEmail())
+                .filter(Objects::nonNull)
+                .map(String::toLowerCase)
+                .distinct()
+                .toList();
+        Mono<Set<String>> existingEmails = emails.isEmpty()
+                ? Mono.just(new HashSet<>())
+                : developerRepository.findExistingEmails(emails).collect(HashSet::new, Set::add);
+
+        return existingEmails.flatMapMany(seenEmails -> {
+            var results = new DeveloperBatchItem[batch.size()];
+            var developersToInsert = new ArrayList<DeveloperEntity>();
+            var positions = new ArrayList<Integer>();
+
+            for (int i = 0; i < batch.size(); i++) {
+                long index = batch.get(i).getT1();
+                DeveloperEntity developer = batch.get(i).getT2();
+                if (DeveloperEmails.isMissing(developer.getEmail())) {
+                    results[i] = DeveloperBatchItem.failure(index, DeveloperValidationException.EMAIL_REQUIRED);
+                } else if (!seenEmails.add(developer.getEmail().toLowerCase())) {
+                    results[i] = DeveloperBatchItem.failure(index, DeveloperWithEmailAlreadyExistsException.INSTANCE);
+                } else {
+                    developer.setId(null);
                     developer.setStatus(Status.ACTIVE);
-                    return developerRepository.save(developer);
-                }));
+                    developersToInsert.add(developer);
+                    positions.add(i);
+                }
+            }
+
+            if (developersToInsert.isEmpty()) {
+                return Flux.fromArray(results);
+            }
+            return developerRepository.insertAll(developersToInsert)
+                    .collectList()
+                    .flatMapMany(ids -> {
+                        for (int j = 0; j < ids.size(); j++) {
+                            int position = positions.get(j);
+                            long index = batch.get(position).getT1();
+                            DeveloperEntity developer = developersToInsert.get(j);
+                            if (ids.get(j).isPresent()) {
+                                developer.setId(ids.get(j).get());
+                                results[position] = DeveloperBatchItem.success(index, developer);
+                            } else {
+                                results[position] = DeveloperBatchItem.failure(index, DeveloperWithEmailAlreadyExistsException.INSTANCE);
+                            }
+                        }
+                        return Flux.fromArray(results);
+                    });
+        });
     }
 
     @Override
     public Mono<DeveloperEntity> updateDeveloper(DeveloperEntity developer) {
-        return developerRepository.findById(developer.getId())
-                .switchIfEmpty(Mono.error(new DeveloperNotFoundException("Developer not found", "DEVELOPER_NOT_FOUND")))
-                .flatMap(d -> developerRepository.save(developer));
+        if (DeveloperEmails.isMissing(developer.getEmail())) {
+            return Mono.error(DeveloperValidationException.EMAIL_REQUIRED);
+        }
+        return bounded("updateDeveloper", developerRepository.updateById(developer.getId(), developer.getEmail(), developer.getFirstName(),
+                        developer.getLastName(), developer.getSpecialty(),
+                        developer.getStatus() == null ? null : developer.getStatus().name())
+                .onErrorMap(DuplicateKeyException.class, e -> DeveloperWithEmailAlreadyExistsException.INSTANCE)
+                .switchIfEmpty(Mono.error(DeveloperNotFoundException.INSTANCE))
+                .doOnNext(developerCache::put));
+    }
+
+    @Override
+    public Mono<DeveloperEntity> patchDeveloper(Integer id, DeveloperEntity changes, Long expectedVersion) {
+        return bounded("patchDeveloper", patch(id, changes, expectedVersion));
+    }
+
+    private Mono<DeveloperEntity> patch(Integer id, DeveloperEntity changes, Long expectedVersion) {
+        if (changes.getEmail() == null && changes.getFirstName() == null && changes.getLastName() == null
+                && changes.getSpecialty() == null && changes.getStatus() == null) {
+            return Mono.error(DeveloperValidationException.EMPTY_PATCH);
+        }
+        if (changes.getEmail() != null && DeveloperEmails.isMissing(changes.getEmail())) {
+            return Mono.error(DeveloperValidationException.EMAIL_REQUIRED);
+        }
+        return developerRepository.patchById(id, changes, expectedVersion)
+                .onErrorMap(DuplicateKeyException.class, e -> DeveloperWithEmailAlreadyExistsException.INSTANCE)
+                .switchIfEmpty(Mono.defer(() -> developerRepository.existsById(id)
+                        .flatMap(exists -> Mono.<DeveloperEntity>error(exists
+                                ? DeveloperVersionMismatchException.INSTANCE
+                                : DeveloperNotFoundException.INSTANCE))))
+                .doOnNext(developerCache::put);
+    }
+
+    @Override
+    public Flux<DeveloperEntity> getAll(int afterId, int limit) {
+        return bounded("getAll", developerRepository.findAllAfter(afterId, limit)
+                .contextWrite(ReadReplicaRouting.replica()));
+    }
+
+    @Override
+    public Flux<DataBuffer> streamAllNdjson(DataBufferFactory bufferFactory) {
+        return developerMetrics.timeService("streamAll", developerRepository.streamAllNdjson(paginationProperties.getStreamFetchSize(), bufferFactory));
+    }
+
+    @Override
+    public Flux<DataBuffer> exportCsv() {
+        return developerMetrics.timeService("exportCsv", developerRepository.exportCsv(paginationProperties.getStreamFetchSize())
+                .contextWrite(ReadReplicaRouting.replica()));
+    }
+
+    @Override
+    public Mono<Long> importCsv(Flux<DataBuffer> csv) {
+        return developerMetrics.timeService("importCsv", developerRepository.importCsv(csv)
+                .onErrorMap(DeveloperImportErrors::toImportError));
     }
 
     @Override
-    public Flux<DeveloperEntity> getAll() {
-        return developerRepository.findAll();
+    public Flux<DeveloperEntity> findAllActiveBySpecialty(String specialty, int afterId, int limit) {
+        return bounded("findAllActiveBySpecialty", developerRepository.findAllActiveBySpecialty(specialty, afterId, limit)
+                .contextWrite(ReadReplicaRouting.replica()));
     }
 
     @Override
-    public Flux<DeveloperEntity> findAllActiveBySpecialty(String specialty) {
-        return developerRepository.findAllActiveBySpecialty(specialty);
+    public Flux<DeveloperSearchResult> search(String query, float afterRank, int afterId, int limit) {
+        if (query == null || query.strip().length() < searchProperties.getMinQueryLength()) {
+            return Flux.error(DeveloperValidationException.SEARCH_QUERY_TOO_SHORT);
+        }
+        return bounded("search", developerRepository.search(query.strip(), afterRank, afterId, limit));
+    }
+
+    @Override
+    public Flux<DeveloperSpecialtyStats> getSpecialtyStats(Status status) {
+        return bounded("getSpecialtyStats", developerRepository.findSpecialtyStats(status == null ? null : status.name()));
     }
 
     @Override
     public Mono<DeveloperEntity> getById(Integer id) {
-        return developerRepository.findById(id)
-                .switchIfEmpty(Mono.error(new DeveloperNotFoundException("Developer not found", "DEVELOPER_NOT_FOUND")));
+        return bounded("getById", developerCache.get(id, developerBatchLoader::load)
+                .switchIfEmpty(Mono.error(DeveloperNotFoundException.INSTANCE)));
     }
 
     @Override
     public Mono<Void> softDeleteById(Integer id) {
-        return developerRepository.findById(id)
-                .switchIfEmpty(Mono.error(new DeveloperNotFoundException("Developer not found", "DEVELOPER_NOT_FOUND")))
-                .flatMap(developer -> {
-                    developer.setStatus(Status.DELETED);
-                    return developerRepository.save(developer).then();
-                });
+        return bounded("softDeleteById", developerRepository.softDeleteById(id)
+                .switchIfEmpty(Mono.error(DeveloperNotFoundException.INSTANCE))
+                .doOnNext(developerCache::put)
+                .then());
     }
 
     @Override
     public Mono<Void> hardDeleteById(Integer id) {
-        return developerRepository.findById(id)
-                .switchIfEmpty(Mono.error(new DeveloperNotFoundException("Developer not found", "DEVELOPER_NOT_FOUND")))
-                .flatMap(developer -> developerRepository.deleteById(id).then());
+        return bounded("hardDeleteById", developerRepository.hardDeleteById(id)
+                .flatMap(this::requireAffected)
+                .doOnSuccess(v -> developerCache.putDeleted(id)));
+    }
+
+    @Override
+    public Mono<DeveloperEntity> restoreById(Integer id) {
+        // restoring an active developer is a no-op that returns it unchanged
+        return bounded("restoreById", developerRepository.restoreById(id)
+                .switchIfEmpty(Mono.defer(() -> developerRepository.findById(id)))
+                .switchIfEmpty(Mono.error(DeveloperNotFoundException.INSTANCE))
+                .doOnNext(developerCache::put));
+    }
+
+    @Override
+    public Flux<DeveloperChangeEvent> getChanges() {
+        return developerChangeListener.changes();
+    }
+
+    // the metrics see a missed deadline as an error with its own code, next to the other outcomes
+    private <T> Mono<T> bounded(String operation, Mono<T> source) {
+        return developerMetrics.timeService(operation, developerDeadlines.apply(operation, source));
+    }
+
+    private <T> Flux<T> bounded(String operation, Flux<T> source) {
+        return developerMetrics.timeService(operation, developerDeadlines.apply(operation, source));
+    }
+
+    private Mono<Void> requireAffected(Integer affectedRows) {
+        if (affectedRows == 0) {
+            return Mono.error(DeveloperNotFoundException.INSTANCE);
+        }
+        return Mono.empty();
     }
 }
@@ -0,0 +1,265 @@
+package com.example.qareactive.service;
+
+import com.example.qareactive.cache.DeveloperCache;
+import com.example.qareactive.codec.DeveloperJson;
+import com.example.qareactive.config.DeveloperBatchProperties;
+import com.example.qareactive.config.DeveloperPaginationProperties;
+import com.example.qareactive.config.DeveloperSearchProperties;
+import com.example.qareactive.deadline.DeveloperDeadlines;
+import com.example.qareactive.deadline.JdbcQueryCancellation;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.entity.Status;
+import com.example.qareactive.exception.DeveloperNotFoundException;
+import com.example.qareactive.exception.DeveloperValidationException;
+import com.example.qareactive.exception.DeveloperVersionMismatchException;
+import com.example.qareactive.exception.DeveloperWithEmailAlreadyExistsException;
+import com.example.qareactive.metrics.DeveloperMetrics;
+import com.example.qareactive.notification.DeveloperChangeEvent;
+import com.example.qareactive.notification.DeveloperChangeListener;
+import com.example.qareactive.repository.DeveloperSearchResult;
+import com.example.qareactive.repository.DeveloperSpecialtyStats;
+import com.example.qareactive.repository.JdbcDeveloperRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.function.Tuple2;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Service
+@Profile("jdbc")
+@RequiredArgsConstructor
+public class JdbcDeveloperServiceImpl implements DeveloperService {
+
+    private static final int IMPORT_PREFETCH = 16;
+
+    private final JdbcDeveloperRepository developerRepository;
+    private final DeveloperCache developerCache;
+    private final DeveloperPaginationProperties paginationProperties;
+    private final DeveloperBatchProperties batchProperties;
+    private final DeveloperSearchProperties searchProperties;
+    private final DeveloperMetrics developerMetrics;
+    private final DeveloperDeadlines developerDeadlines;
+    private final DeveloperChangeListener developerChangeListener;
+    private final Scheduler jdbcScheduler;
+
+    @Override
+    public Mono<DeveloperEntity> createDeveloper(DeveloperEntity developer) {
+        if (DeveloperEmails.isMissing(developer.getEmail())) {
+            return Mono.error(DeveloperValidationException.EMAIL_REQUIRED);
+        }
+        return bounded("createDeveloper", blocking(() -> developerRepository.insertIfEmailAbsent(developer.getEmail(),
+                        developer.getFirstName(), developer.getLastName(), developer.getSpecialty()))
+                .switchIfEmpty(Mono.error(DeveloperWithEmailAlreadyExistsException.INSTANCE))
+                .doOnNext(developerCache::put));
+    }
+
+    @Override
+    public Flux<DeveloperBatchItem> createDevelopers(Flux<DeveloperEntity> developers) {
+        return developerMetrics.timeService("createDevelopers", developers.index()
+                .buffer(batchProperties.getSize())
+                .concatMap(batch -> Mono.fromCallable(() -> createBatch(batch))
+                        .subscribeOn(jdbcScheduler)
+                        .flatMapIterable(Function.identity())));
+    }
+
+    private List<DeveloperBatchItem> createBatch(List<Tuple2<Long, DeveloperEntity>> batch) {
+        var emails = batch.stream()
+                .map(item -> item.getT2().getEmail())
+                .filter(Objects::nonNull)
+                .map(String::toLowerCase)
+                .distinct()
+                .toList();
+        Set<String> seenEmails = emails.isEmpty() ? new HashSet<>() : developerRepository.findExistingEmails(emails);
+
+        var results = new ArrayList<DeveloperBatchItem>(batch.size());
+        for (Tuple2<Long, DeveloperEntity> item : batch) {
+            long index = item.getT1();
+            DeveloperEntity developer = item.getT2();
+            if (DeveloperEmails.isMissing(developer.getEmail())) {
+                results.add(DeveloperBatchItem.failure(index, DeveloperValidationException.EMAIL_REQUIRED));
+            } else if (!seenEmails.add(developer.getEmail().toLowerCase())) {
+                results.add(DeveloperBatchItem.failure(index, DeveloperWithEmailAlreadyExistsException.INSTANCE));
+            } else {
+                results.add(developerRepository.insertIfEmailAbsent(developer.getEmail(), developer.getFirstName(),
+                                developer.getLastName(), developer.getSpecialty())
+                        .map(created -> DeveloperBatchItem.success(index, created))
+                        .orElseGet(() -> DeveloperBatchItem.failure(index, DeveloperWithEmailAlreadyExistsException.INSTANCE)));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public Mono<DeveloperEntity> updateDeveloper(DeveloperEntity developer) {
+        if (DeveloperEmails.isMissing(developer.getEmail())) {
+            return Mono.error(DeveloperValidationException.EMAIL_REQUIRED);
+        }
+        return bounded("updateDeveloper", blocking(() -> developerRepository.updateById(developer.getId(),
+                        developer.getEmail(), developer.getFirstName(), developer.getLastName(), developer.getSpecialty(),
+                        developer.getStatus() == null ? null : developer.getStatus().name()))
+                .onErrorMap(DuplicateKeyException.class, e -> DeveloperWithEmailAlreadyExistsException.INSTANCE)
+                .switchIfEmpty(Mono.error(DeveloperNotFoundException.INSTANCE))
+                .doOnNext(developerCache::put));
+    }
+
+    @Override
+    public Mono<DeveloperEntity> patchDeveloper(Integer id, DeveloperEntity changes, Long expectedVersion) {
+        return bounded("patchDeveloper", patch(id, changes, expectedVersion));
+    }
+
+    private Mono<DeveloperEntity> patch(Integer id, DeveloperEntity changes, Long expectedVersion) {
+        if (changes.getEmail() == null && changes.getFirstName() == null && changes.getLastName() == null
+                && changes.getSpecialty() == null && changes.getStatus() == null) {
+            return Mono.error(DeveloperValidationException.EMPTY_PATCH);
+        }
+        if (changes.getEmail() != null && DeveloperEmails.isMissing(changes.getEmail())) {
+            return Mono.error(DeveloperValidationException.EMAIL_REQUIRED);
+        }
+        return blocking(() -> developerRepository.patchById(id, changes, expectedVersion))
+                .onErrorMap(DuplicateKeyException.class, e -> DeveloperWithEmailAlreadyExistsException.INSTANCE)
+                .switchIfEmpty(Mono.defer(() -> JdbcQueryCancellation.call(jdbcScheduler, () -> developerRepository.existsById(id))
+                        .flatMap(exists -> Mono.<DeveloperEntity>error(exists
+                                ? DeveloperVersionMismatchException.INSTANCE
+                                : DeveloperNotFoundException.INSTANCE))))
+                .doOnNext(developerCache::put);
+    }
+
+    @Override
+    public Flux<DeveloperEntity> getAll(int afterId, int limit) {
+        return bounded("getAll", blockingList(() -> developerRepository.findAllAfter(afterId, limit)));
+    }
+
+    @Override
+    public Flux<DataBuffer> streamAllNdjson(DataBufferFactory bufferFactory) {
+        // rows are fetched only as downstream requests them; cancelling closes the stream and releases its connection
+        var developers = Flux.fromStream(() -> developerRepository.streamAll(paginationProperties.getStreamFetchSize()))
+                .subscribeOn(jdbcScheduler);
+        return developerMetrics.timeService("streamAll", developers.map(developer -> DeveloperJson.toNdjson(bufferFactory, developer))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release));
+    }
+
+    @Override
+    public Flux<DataBuffer> exportCsv() {
+        return developerMetrics.timeService("exportCsv", Flux.fromStream(developerRepository::exportCsv)
+                .subscribeOn(jdbcScheduler)
+                .map(DefaultDataBufferFactory.sharedInstance::wrap));
+    }
+
+    @Override
+    public Mono<Long> importCsv(Flux<DataBuffer> csv) {
+        return developerMetrics.timeService("importCsv", Mono.fromCallable(() -> {
+                    // a small prefetch keeps only a few request body chunks in memory while COPY drains them; each buffer is
+                    // copied out and released before it is queued, so chunks left behind by a failed COPY are plain arrays
+                    try (var chunks = csv.map(JdbcDeveloperServiceImpl::toBytes).toStream(IMPORT_PREFETCH)) {
+                        return developerRepository.importCsv(chunks::iterator);
+                    }
+                })
+                .subscribeOn(jdbcScheduler)
+                .onErrorMap(DeveloperImportErrors::toImportError));
+    }
+
+    @Override
+    public Flux<DeveloperEntity> findAllActiveBySpecialty(String specialty, int afterId, int limit) {
+        return bounded("findAllActiveBySpecialty",
+                blockingList(() -> developerRepository.findAllActiveBySpecialty(specialty, afterId, limit)));
+    }
+
+    @Override
+    public Flux<DeveloperSearchResult> search(String query, float afterRank, int afterId, int limit) {
+        if (query == null || query.strip().length() < searchProperties.getMinQueryLength()) {
+            return Flux.error(DeveloperValidationException.SEARCH_QUERY_TOO_SHORT);
+        }
+        return bounded("search",
+                blockingList(() -> developerRepository.search(query.strip(), afterRank, afterId, limit)));
+    }
+
+    @Override
+    public Flux<DeveloperSpecialtyStats> getSpecialtyStats(Status status) {
+        return bounded("getSpecialtyStats",
+                blockingList(() -> developerRepository.findSpecialtyStats(status == null ? null : status.name())));
+    }
+
+    @Override
+    public Mono<DeveloperEntity> getById(Integer id) {
+        return bounded("getById", developerCache.get(id, key -> blocking(() -> developerRepository.findById(key)))
+                .switchIfEmpty(Mono.error(DeveloperNotFoundException.INSTANCE)));
+    }
+
+    @Override
+    public Mono<Void> softDeleteById(Integer id) {
+        return bounded("softDeleteById", blocking(() -> developerRepository.softDeleteById(id))
+                .switchIfEmpty(Mono.error(DeveloperNotFoundException.INSTANCE))
+                .doOnNext(developerCache::put)
+                .then());
+    }
+
+    @Override
+    public Mono<Void> hardDeleteById(Integer id) {
+        return bounded("hardDeleteById", JdbcQueryCancellation.call(jdbcScheduler, () -> developerRepository.hardDeleteById(id))
+                .flatMap(this::requireAffected)
+                .doOnSuccess(v -> developerCache.putDeleted(id)));
+    }
+
+    @Override
+    public Mono<DeveloperEntity> restoreById(Integer id) {
+        return bounded("restoreById", blocking(() -> developerRepository.restoreById(id)
+                        .or(() -> developerRepository.findById(id)))
+                .switchIfEmpty(Mono.error(DeveloperNotFoundException.INSTANCE))
+                .doOnNext(developerCache::put));
+    }
+
+    @Override
+    public Flux<DeveloperChangeEvent> getChanges() {
+        return developerChangeListener.changes();
+    }
+
+    private <T> Mono<T> blocking(Supplier<Optional<T>> query) {
+        return JdbcQueryCancellation.call(jdbcScheduler, () -> query.get().orElse(null));
+    }
+
+    private <T> Flux<T> blockingList(Supplier<List<T>> query) {
+        return JdbcQueryCancellation.call(jdbcScheduler, query::get)
+                .flatMapIterable(Function.identity());
+    }
+
+    private <T> Mono<T> bounded(String operation, Mono<T> source) {
+        return developerMetrics.timeService(operation, developerDeadlines.apply(operation, source));
+    }
+
+    private <T> Flux<T> bounded(String operation, Flux<T> source) {
+        return developerMetrics.timeService(operation, developerDeadlines.apply(operation, source));
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        try {
+            var bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private Mono<Void> requireAffected(Integer affectedRows) {
+        if (affectedRows == 0) {
+            return Mono.error(DeveloperNotFoundException.INSTANCE);
+        }
+        return Mono.empty();
+    }
+}
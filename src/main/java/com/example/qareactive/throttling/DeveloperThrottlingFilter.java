@@ -0,0 +1,154 @@
+package com.example.qareactive.throttling;
+
+import com.example.qareactive.config.DeveloperConcurrencyLimitProperties;
+import com.example.qareactive.config.DeveloperRateLimitProperties;
+import com.example.qareactive.exception.RateLimitExceededException;
+import com.example.qareactive.exception.ServiceOverloadedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(0)
+public class DeveloperThrottlingFilter implements WebFilter {
+
+    private static final PathPattern DEVELOPERS_API = PathPatternParser.defaultInstance.parse("/api/v1/developers/**");
+    private static final PathPattern DEVELOPERS_STREAM = PathPatternParser.defaultInstance.parse("/api/v1/developers");
+
+    private final DeveloperRateLimitProperties rateLimitProperties;
+    private final DeveloperConcurrencyLimitProperties concurrencyLimitProperties;
+    private final Cache<String, TokenBucket> clientBuckets;
+    private final List<RouteLimit> routeLimits;
+    private final List<PathPattern> unlimitedPaths;
+    private final GradientConcurrencyLimiter concurrencyLimiter;
+
+    public DeveloperThrottlingFilter(DeveloperRateLimitProperties rateLimitProperties,
+                                     DeveloperConcurrencyLimitProperties concurrencyLimitProperties,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+        this.clientBuckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitProperties.getMaxClients())
+                .expireAfterAccess(rateLimitProperties.getClientIdleTimeout())
+                .build();
+        long now = System.nanoTime();
+        this.routeLimits = rateLimitProperties.getRoutes().stream()
+                .map(route -> new RouteLimit(PathPatternParser.defaultInstance.parse(route.getPattern()), route.getMethod(),
+                        new TokenBucket(route.getCapacity(), route.getRefillPerSecond(), now)))
+                .toList();
+        this.unlimitedPaths = concurrencyLimitProperties.getExcludedPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.concurrencyLimiter = new GradientConcurrencyLimiter(concurrencyLimitProperties.getInitialLimit(),
+                concurrencyLimitProperties.getMinLimit(), concurrencyLimitProperties.getMaxLimit(),
+                concurrencyLimitProperties.getSmoothing(), concurrencyLimitProperties.getRttTolerance(),
+                concurrencyLimitProperties.getLongWindow());
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("developers.concurrency.limit", concurrencyLimiter, GradientConcurrencyLimiter::getLimit)
+                    .register(registry);
+            Gauge.builder("developers.concurrency.inflight", concurrencyLimiter, GradientConcurrencyLimiter::getInflight)
+                    .register(registry);
+        });
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        var request = exchange.getRequest();
+        var path = request.getPath().pathWithinApplication();
+        if (!DEVELOPERS_API.matches(path)) {
+            return chain.filter(exchange);
+        }
+        if (rateLimitProperties.isEnabled()) {
+            long retryAfterNanos = tryConsume(request, path);
+            if (retryAfterNanos > 0) {
+                exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfterSeconds(retryAfterNanos));
+                return Mono.error(RateLimitExceededException.INSTANCE);
+            }
+        }
+        if (!concurrencyLimitProperties.isEnabled() || isLongLived(request, path)) {
+            return chain.filter(exchange);
+        }
+        // shed at the door rather than queue for a pooled connection, so admitted requests keep their latency
+        int inflight = concurrencyLimiter.tryAcquire();
+        if (inflight == GradientConcurrencyLimiter.REJECTED) {
+            return Mono.error(ServiceOverloadedException.INSTANCE);
+        }
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        concurrencyLimiter.release();
+                    } else {
+                        concurrencyLimiter.release(System.nanoTime() - start, inflight);
+                    }
+                });
+    }
+
+    private long tryConsume(ServerHttpRequest request, PathContainer path) {
+        long now = System.nanoTime();
+        var clientBucket = clientBuckets.get(clientKey(request), key -> new TokenBucket(rateLimitProperties.getClientCapacity(),
+                rateLimitProperties.getClientRefillPerSecond(), now));
+        long retryAfterNanos = clientBucket.tryConsume(now);
+        if (retryAfterNanos > 0) {
+            return retryAfterNanos;
+        }
+        for (RouteLimit routeLimit : routeLimits) {
+            if (routeLimit.matches(request.getMethod(), path)) {
+                return routeLimit.bucket().tryConsume(now);
+            }
+        }
+        return 0;
+    }
+
+    // an unauthenticated key only buckets its caller separately; the per-route limits still bound key rotation
+    private String clientKey(ServerHttpRequest request) {
+        var apiKey = request.getHeaders().getFirst(rateLimitProperties.getApiKeyHeader());
+        if (apiKey != null && !apiKey.isBlank()) {
+            return "key:" + apiKey;
+        }
+        var remoteAddress = request.getRemoteAddress();
+        return remoteAddress == null ? "ip:unknown" : "ip:" + remoteAddress.getHostString();
+    }
+
+    // streams stay open for as long as the client reads, which would pin permits and skew the latency samples;
+    // only the NDJSON listing and the configured paths stream, so a streaming Accept header elsewhere is still limited
+    private boolean isLongLived(ServerHttpRequest request, PathContainer path) {
+        for (PathPattern unlimitedPath : unlimitedPaths) {
+            if (unlimitedPath.matches(path)) {
+                return true;
+            }
+        }
+        return HttpMethod.GET.equals(request.getMethod()) && DEVELOPERS_STREAM.matches(path)
+                && request.getHeaders().getAccept().stream().anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+
+    private static String retryAfterSeconds(long retryAfterNanos) {
+        return String.valueOf(TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos - 1) + 1);
+    }
+
+    private record RouteLimit(PathPattern pattern, HttpMethod method, TokenBucket bucket) {
+
+        boolean matches(HttpMethod requestMethod, PathContainer path) {
+            return (method == null || method.equals(requestMethod)) && pattern.matches(path);
+        }
+    }
+}
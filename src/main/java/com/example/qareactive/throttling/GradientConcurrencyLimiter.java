@@ -0,0 +1,87 @@
+package com.example.qareactive.throttling;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// gradient limit in the style of Netflix's Gradient2: the limit shrinks while recent latency runs above the long-term
+// average by more than the tolerance, and grows by about sqrt(limit) while it does not
+final class GradientConcurrencyLimiter {
+
+    static final int REJECTED = -1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int longWindow;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRtt;
+    private long samples;
+
+    GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing, double rttTolerance, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.longWindow = longWindow;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    // returns the in-flight count including this request, or REJECTED when the limit is reached
+    int tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return REJECTED;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    void release(long rttNanos, int inflightAtStart) {
+        inflight.decrementAndGet();
+        onSample(rttNanos, inflightAtStart);
+    }
+
+    // cancelled requests say nothing about latency
+    void release() {
+        inflight.decrementAndGet();
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart) {
+        double rtt = Math.max(rttNanos, 1);
+        samples++;
+        if (samples == 1) {
+            longRtt = rtt;
+        } else {
+            double factor = 2.0 / (Math.min(samples, longWindow) + 1);
+            longRtt = longRtt * (1 - factor) + rtt * factor;
+        }
+        // after a lasting latency drop, let the long-term average catch up instead of pinning the limit high
+        if (longRtt / rtt > 2) {
+            longRtt *= 0.95;
+        }
+        // a lightly loaded service says nothing about how much more it could take
+        if (inflightAtStart < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / rtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
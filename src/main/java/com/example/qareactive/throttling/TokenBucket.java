@@ -0,0 +1,34 @@
+package com.example.qareactive.throttling;
+
+import java.util.concurrent.TimeUnit;
+
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(long capacity, long refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    // returns 0 when a token was taken, otherwise how many nanos until the next one is available
+    synchronized long tryConsume(long now) {
+        if (now > refilledAt) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        if (tokensPerNano == 0) {
+            return Long.MAX_VALUE;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
@@ -0,0 +1,16 @@
+-- developers created before the email was required may have none; they are moved aside rather than dropped,
+-- so the check below can validate and the rows can still be fixed up and imported again
+create table developers_missing_email as
+select *
+from developers
+where email is null
+   or btrim(email) = '';
+
+delete
+from developers
+where email is null
+   or btrim(email) = '';
+
+-- COPY bypasses the service-side email check, so the table enforces it for every write path
+alter table developers
+    add constraint developers_email_required check (email is not null and btrim(email) <> '');
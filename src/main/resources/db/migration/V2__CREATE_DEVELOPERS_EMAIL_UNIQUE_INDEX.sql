@@ -0,0 +1,2 @@
+create unique index developers_email_lower_uindex
+    on public.developers (lower(email));
@@ -0,0 +1,3 @@
+create index developers_active_specialty_id_idx
+    on public.developers (specialty, id)
+    where status = 'ACTIVE';
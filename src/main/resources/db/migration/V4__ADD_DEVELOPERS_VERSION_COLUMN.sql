@@ -0,0 +1,2 @@
+alter table public.developers
+    add column version bigint not null default 0;
@@ -0,0 +1,38 @@
+create or replace function notify_developer_change() returns trigger as
+$$
+declare
+    operation text;
+    payload   json;
+begin
+    if (tg_op = 'INSERT') then
+        operation := 'CREATE';
+    elsif (tg_op = 'DELETE') then
+        operation := 'HARD_DELETE';
+    elsif (new.status = 'DELETED' and old.status is distinct from 'DELETED') then
+        operation := 'SOFT_DELETE';
+    else
+        operation := 'UPDATE';
+    end if;
+
+    if (tg_op = 'DELETE') then
+        payload := json_build_object('operation', operation, 'id', old.id, 'version', old.version);
+    else
+        payload := json_build_object('operation', operation, 'id', new.id, 'version', new.version,
+                                     'developer', json_build_object('id', new.id, 'email', new.email,
+                                                                    'firstName', new.first_name,
+                                                                    'lastName', new.last_name,
+                                                                    'specialty', new.specialty,
+                                                                    'status', new.status,
+                                                                    'version', new.version));
+    end if;
+
+    perform pg_notify('developer_changes', payload::text);
+    return null;
+end;
+$$ language plpgsql;
+
+create trigger developers_notify_change
+    after insert or update or delete
+    on developers
+    for each row
+execute function notify_developer_change();
@@ -0,0 +1,7 @@
+create extension if not exists pg_trgm;
+
+create index developers_first_name_trgm_idx on developers using gin (first_name gin_trgm_ops);
+
+create index developers_last_name_trgm_idx on developers using gin (last_name gin_trgm_ops);
+
+create index developers_email_trgm_idx on developers using gin (email gin_trgm_ops);
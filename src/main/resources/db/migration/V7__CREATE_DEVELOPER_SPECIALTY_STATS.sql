@@ -0,0 +1,47 @@
+create table developer_specialty_stats
+(
+    specialty       varchar(255) not null,
+    status          varchar(255) not null,
+    developer_count bigint       not null default 0,
+    primary key (specialty, status)
+);
+
+create or replace function maintain_developer_specialty_stats() returns trigger as
+$$
+begin
+    if (tg_op = 'UPDATE' and old.specialty is not distinct from new.specialty
+        and old.status is not distinct from new.status) then
+        return null;
+    end if;
+
+    if (tg_op in ('UPDATE', 'DELETE')) then
+        update developer_specialty_stats
+        set developer_count = developer_count - 1
+        where specialty = coalesce(old.specialty, '')
+          and status = coalesce(old.status, '');
+    end if;
+
+    if (tg_op in ('INSERT', 'UPDATE')) then
+        insert into developer_specialty_stats (specialty, status, developer_count)
+        values (coalesce(new.specialty, ''), coalesce(new.status, ''), 1)
+        on conflict (specialty, status) do update
+            set developer_count = developer_specialty_stats.developer_count + 1;
+    end if;
+
+    return null;
+end;
+$$ language plpgsql;
+
+-- block writers so no row slips in between the backfill and the trigger going live
+lock table developers in share row exclusive mode;
+
+insert into developer_specialty_stats (specialty, status, developer_count)
+select coalesce(specialty, ''), coalesce(status, ''), count(*)
+from developers
+group by coalesce(specialty, ''), coalesce(status, '');
+
+create trigger developers_maintain_specialty_stats
+    after insert or update or delete
+    on developers
+    for each row
+execute function maintain_developer_specialty_stats();
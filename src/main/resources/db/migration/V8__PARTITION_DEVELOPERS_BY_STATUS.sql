@@ -0,0 +1,170 @@
+lock table developers in access exclusive mode;
+
+alter table developers rename to developers_legacy;
+
+alter sequence developers_id_seq owned by none;
+
+create table developers
+(
+    id         integer      not null default nextval('developers_id_seq'),
+    email      varchar(255),
+    first_name varchar(255),
+    last_name  varchar(255),
+    specialty  varchar(255),
+    status     varchar(255)
+        constraint developers_status_check
+            check ((status)::text = ANY ((ARRAY ['ACTIVE':: character varying, 'DELETED':: character varying])::text[])),
+    version    bigint       not null default 0
+) partition by list (status);
+
+alter sequence developers_id_seq owned by developers.id;
+
+-- soft-deleted rows move out of the hot partition, so active-only queries prune to developers_active
+create table developers_active partition of developers (primary key (id)) for values in ('ACTIVE');
+
+create table developers_inactive partition of developers (primary key (id)) default;
+
+insert into developers (id, email, first_name, last_name, specialty, status, version)
+select id, email, first_name, last_name, specialty, status, version
+from developers_legacy;
+
+-- unique indexes on a partitioned table must contain the partition key, so email uniqueness across
+-- partitions is claimed in a side table instead of developers_email_lower_uindex
+create table developer_emails
+(
+    email        varchar(255) not null primary key,
+    developer_id integer      not null
+);
+
+insert into developer_emails (email, developer_id)
+select lower(email), id
+from developers_legacy
+where email is not null;
+
+drop table developers_legacy;
+
+create index developers_active_email_lower_idx on developers_active (lower(email));
+create index developers_inactive_email_lower_idx on developers_inactive (lower(email));
+create index developers_email_lower_idx on developers (lower(email));
+
+create index developers_active_specialty_id_idx on developers_active (specialty, id);
+
+create index developers_active_first_name_trgm_idx on developers_active using gin (first_name gin_trgm_ops);
+create index developers_inactive_first_name_trgm_idx on developers_inactive using gin (first_name gin_trgm_ops);
+create index developers_first_name_trgm_idx on developers using gin (first_name gin_trgm_ops);
+
+create index developers_active_last_name_trgm_idx on developers_active using gin (last_name gin_trgm_ops);
+create index developers_inactive_last_name_trgm_idx on developers_inactive using gin (last_name gin_trgm_ops);
+create index developers_last_name_trgm_idx on developers using gin (last_name gin_trgm_ops);
+
+create index developers_active_email_trgm_idx on developers_active using gin (email gin_trgm_ops);
+create index developers_inactive_email_trgm_idx on developers_inactive using gin (email gin_trgm_ops);
+create index developers_email_trgm_idx on developers using gin (email gin_trgm_ops);
+
+create or replace function maintain_developer_emails() returns trigger as
+$$
+begin
+    if (tg_op = 'UPDATE' and lower(old.email) is not distinct from lower(new.email)) then
+        return null;
+    end if;
+
+    if (tg_op in ('UPDATE', 'DELETE') and old.email is not null) then
+        delete from developer_emails where email = lower(old.email) and developer_id = old.id;
+    end if;
+
+    if (tg_op in ('INSERT', 'UPDATE') and new.email is not null) then
+        -- a claim made for this id by the inserting statement is kept, any other owner is a duplicate
+        insert into developer_emails (email, developer_id)
+        values (lower(new.email), new.id)
+        on conflict (email) do update set developer_id = excluded.developer_id
+        where developer_emails.developer_id = excluded.developer_id;
+        if (not found) then
+            raise exception 'duplicate key value violates unique constraint "developer_emails_pkey"'
+                using errcode = 'unique_violation', constraint = 'developer_emails_pkey';
+        end if;
+    end if;
+
+    return null;
+end;
+$$ language plpgsql;
+
+-- an update that changes partition runs as a delete plus an insert and only fires the after delete and
+-- after insert triggers, so the before update trigger flags the id for the change notification
+create or replace function mark_developer_partition_move() returns trigger as
+$$
+begin
+    if (coalesce(old.status = 'ACTIVE', false) <> coalesce(new.status = 'ACTIVE', false)) then
+        perform set_config('developers.moved_' || old.id, 'on', true);
+    end if;
+    return new;
+end;
+$$ language plpgsql;
+
+create or replace function notify_developer_change() returns trigger as
+$$
+declare
+    operation text;
+    payload   json;
+begin
+    if (tg_op = 'DELETE' and current_setting('developers.moved_' || old.id, true) = 'on') then
+        return null;
+    end if;
+
+    if (tg_op = 'INSERT' and current_setting('developers.moved_' || new.id, true) = 'on') then
+        perform set_config('developers.moved_' || new.id, '', true);
+        if (new.status = 'DELETED') then
+            operation := 'SOFT_DELETE';
+        else
+            operation := 'UPDATE';
+        end if;
+    elsif (tg_op = 'INSERT') then
+        operation := 'CREATE';
+    elsif (tg_op = 'DELETE') then
+        operation := 'HARD_DELETE';
+    elsif (new.status = 'DELETED' and old.status is distinct from 'DELETED') then
+        operation := 'SOFT_DELETE';
+    else
+        operation := 'UPDATE';
+    end if;
+
+    if (tg_op = 'DELETE') then
+        payload := json_build_object('operation', operation, 'id', old.id, 'version', old.version);
+    else
+        payload := json_build_object('operation', operation, 'id', new.id, 'version', new.version,
+                                     'developer', json_build_object('id', new.id, 'email', new.email,
+                                                                    'firstName', new.first_name,
+                                                                    'lastName', new.last_name,
+                                                                    'specialty', new.specialty,
+                                                                    'status', new.status,
+                                                                    'version', new.version));
+    end if;
+
+    perform pg_notify('developer_changes', payload::text);
+    return null;
+end;
+$$ language plpgsql;
+
+create trigger developers_maintain_emails
+    after insert or update or delete
+    on developers
+    for each row
+execute function maintain_developer_emails();
+
+create trigger developers_mark_partition_move
+    before update
+    on developers
+    for each row
+execute function mark_developer_partition_move();
+
+create trigger developers_notify_change
+    after insert or update or delete
+    on developers
+    for each row
+execute function notify_developer_change();
+
+-- a partition move decrements the old status and increments the new one through the delete and insert halves
+create trigger developers_maintain_specialty_stats
+    after insert or update or delete
+    on developers
+    for each row
+execute function maintain_developer_specialty_stats();
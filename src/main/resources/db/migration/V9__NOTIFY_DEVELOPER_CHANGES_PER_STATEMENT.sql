@@ -0,0 +1,73 @@
+-- a partition move fires only the row-level delete and insert triggers, which V8 told apart from real ones with a
+-- setting per moved id; a statement-level trigger on the parent sees a move as the update it is in the transition
+-- tables, so changes are notified per statement with one join and no bookkeeping per row
+drop trigger developers_notify_change on developers;
+drop trigger developers_mark_partition_move on developers;
+
+drop function notify_developer_change();
+drop function mark_developer_partition_move();
+
+create or replace function developer_change_payload(operation text, id integer, email varchar, first_name varchar,
+                                                    last_name varchar, specialty varchar, status varchar,
+                                                    version bigint) returns text as
+$$
+select json_build_object('operation', operation, 'id', id, 'version', version,
+                         'developer', json_build_object('id', id, 'email', email,
+                                                        'firstName', first_name,
+                                                        'lastName', last_name,
+                                                        'specialty', specialty,
+                                                        'status', status,
+                                                        'version', version))::text;
+$$ language sql immutable;
+
+create or replace function notify_developer_changes() returns trigger as
+$$
+begin
+    if (tg_op = 'INSERT') then
+        perform pg_notify('developer_changes',
+                          developer_change_payload('CREATE', created.id, created.email, created.first_name,
+                                                   created.last_name, created.specialty, created.status,
+                                                   created.version))
+        from new_rows created;
+    elsif (tg_op = 'UPDATE') then
+        perform pg_notify('developer_changes',
+                          developer_change_payload(case
+                                                       when changed.status = 'DELETED'
+                                                           and previous.status is distinct from 'DELETED'
+                                                           then 'SOFT_DELETE'
+                                                       else 'UPDATE'
+                                                       end,
+                                                   changed.id, changed.email, changed.first_name, changed.last_name,
+                                                   changed.specialty, changed.status, changed.version))
+        from new_rows changed
+                 join old_rows previous on previous.id = changed.id;
+    else
+        perform pg_notify('developer_changes',
+                          json_build_object('operation', 'HARD_DELETE', 'id', deleted.id,
+                                            'version', deleted.version)::text)
+        from old_rows deleted;
+    end if;
+    return null;
+end;
+$$ language plpgsql;
+
+create trigger developers_notify_created
+    after insert
+    on developers
+    referencing new table as new_rows
+    for each statement
+execute function notify_developer_changes();
+
+create trigger developers_notify_updated
+    after update
+    on developers
+    referencing old table as old_rows new table as new_rows
+    for each statement
+execute function notify_developer_changes();
+
+create trigger developers_notify_deleted
+    after delete
+    on developers
+    referencing old table as old_rows
+    for each statement
+execute function notify_developer_changes();
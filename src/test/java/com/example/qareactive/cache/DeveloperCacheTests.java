@@ -0,0 +1,221 @@
+package com.example.qareactive.cache;
+
+import com.example.qareactive.config.DeveloperCacheProperties;
+import com.example.qareactive.deadline.QueryCancellation;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.util.DataUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeveloperCacheTests {
+
+    @Test
+    @DisplayName("Test concurrent misses share one load functionality")
+    public void givenConcurrentMisses_whenGet_thenLoaderCalledOnce() {
+        //given
+        DeveloperCache cache = cache(true);
+        DeveloperEntity john = DataUtils.getJohnDoePersisted();
+        Sinks.One<DeveloperEntity> row = Sinks.one();
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, Mono<DeveloperEntity>> loader = id -> {
+            loads.incrementAndGet();
+            return row.asMono();
+        };
+        //when
+        Mono<DeveloperEntity> first = cache.get(1, loader);
+        Mono<DeveloperEntity> second = cache.get(1, loader);
+        //then
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> row.tryEmitValue(john))
+                .assertNext(both -> {
+                    assertThat(both.getT1()).isSameAs(john);
+                    assertThat(both.getT2()).isSameAs(john);
+                })
+                .verifyComplete();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Test cached developer is served without loading functionality")
+    public void givenCachedDeveloper_whenGet_thenLoaderNotCalled() {
+        //given
+        DeveloperCache cache = cache(true);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, Mono<DeveloperEntity>> loader = counting(loads, DataUtils.getJohnDoePersisted());
+        cache.get(1, loader).block();
+        //when
+        DeveloperEntity cached = cache.get(1, loader).block();
+        //then
+        assertThat(cached.getFirstName()).isEqualTo("John");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Test put after update replaces the cached developer functionality")
+    public void givenCachedDeveloper_whenPutUpdated_thenUpdatedServedWithoutLoading() {
+        //given
+        DeveloperCache cache = cache(true);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, Mono<DeveloperEntity>> loader = counting(loads, DataUtils.getJohnDoePersisted());
+        cache.get(1, loader).block();
+        DeveloperEntity updated = DataUtils.getJohnDoePersisted();
+        updated.setFirstName("Johnny");
+        //when
+        cache.put(updated);
+        DeveloperEntity cached = cache.get(1, loader).block();
+        //then
+        assertThat(cached.getFirstName()).isEqualTo("Johnny");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Test invalidate after delete forces a reload functionality")
+    public void givenCachedDeveloper_whenInvalidate_thenNextGetLoads() {
+        //given
+        DeveloperCache cache = cache(true);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, Mono<DeveloperEntity>> loader = counting(loads, DataUtils.getJohnDoePersisted());
+        cache.get(1, loader).block();
+        //when
+        cache.invalidate(1);
+        cache.get(1, loader).block();
+        //then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Test deleted developer is not reloaded functionality")
+    public void givenCachedDeveloper_whenPutDeleted_thenEmptyWithoutLoading() {
+        //given
+        DeveloperCache cache = cache(true);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, Mono<DeveloperEntity>> loader = counting(loads, DataUtils.getJohnDoePersisted());
+        cache.get(1, loader).block();
+        //when
+        cache.putDeleted(1);
+        //then
+        StepVerifier.create(cache.get(1, loader))
+                .verifyComplete();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Test not found is not cached functionality")
+    public void givenMissingDeveloper_whenGetTwice_thenLoaderCalledEachTime() {
+        //given
+        DeveloperCache cache = cache(true);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, Mono<DeveloperEntity>> loader = id -> {
+            loads.incrementAndGet();
+            return Mono.empty();
+        };
+        //when
+        StepVerifier.create(cache.get(1, loader))
+                .verifyComplete();
+        StepVerifier.create(cache.get(1, loader))
+                .verifyComplete();
+        //then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Test shared load is cancelled once every caller gives up functionality")
+    public void givenCallersSharingLoad_whenEachGivesUp_thenLoadCancelledAfterTheLast() {
+        //given
+        DeveloperCache cache = cache(true);
+        AtomicBoolean loadCancelled = new AtomicBoolean();
+        Function<Integer, Mono<DeveloperEntity>> loader = id -> Mono.deferContextual(context -> {
+            QueryCancellation.from(context).register(() -> loadCancelled.set(true));
+            return Mono.never();
+        });
+        QueryCancellation first = new QueryCancellation();
+        QueryCancellation second = new QueryCancellation();
+        cache.get(1, loader).contextWrite(QueryCancellation.with(first)).subscribe();
+        cache.get(1, loader).contextWrite(QueryCancellation.with(second)).subscribe();
+        //when
+        first.cancel();
+        boolean cancelledWhileSecondWaits = loadCancelled.get();
+        second.cancel();
+        //then
+        assertThat(cancelledWhileSecondWaits).isFalse();
+        assertThat(loadCancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test caller without a cancellation keeps the shared load running functionality")
+    public void givenCallerWithoutCancellation_whenOthersGiveUp_thenLoadNotCancelled() {
+        //given
+        DeveloperCache cache = cache(true);
+        AtomicBoolean loadCancelled = new AtomicBoolean();
+        Function<Integer, Mono<DeveloperEntity>> loader = id -> Mono.deferContextual(context -> {
+            QueryCancellation.from(context).register(() -> loadCancelled.set(true));
+            return Mono.never();
+        });
+        QueryCancellation first = new QueryCancellation();
+        cache.get(1, loader).contextWrite(QueryCancellation.with(first)).subscribe();
+        cache.get(1, loader).subscribe();
+        //when
+        first.cancel();
+        //then
+        assertThat(loadCancelled).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test caller arriving after the shared load was cancelled loads on its own functionality")
+    public void givenCancelledSharedLoad_whenGet_thenLoaderCalledAgain() {
+        //given
+        DeveloperCache cache = cache(true);
+        Sinks.One<DeveloperEntity> ownRow = Sinks.one();
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, Mono<DeveloperEntity>> loader = id -> loads.incrementAndGet() == 1 ? Mono.never() : ownRow.asMono();
+        QueryCancellation first = new QueryCancellation();
+        cache.get(1, loader).contextWrite(QueryCancellation.with(first)).subscribe();
+        first.cancel();
+        DeveloperEntity john = DataUtils.getJohnDoePersisted();
+        //when
+        //then
+        StepVerifier.create(cache.get(1, loader))
+                .then(() -> ownRow.tryEmitValue(john))
+                .expectNext(john)
+                .verifyComplete();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Test disabled cache always loads functionality")
+    public void givenDisabledCache_whenGetAfterPut_thenLoaderCalledEachTime() {
+        //given
+        DeveloperCache cache = cache(false);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, Mono<DeveloperEntity>> loader = counting(loads, DataUtils.getJohnDoePersisted());
+        cache.put(DataUtils.getJohnDoePersisted());
+        //when
+        cache.get(1, loader).block();
+        cache.get(1, loader).block();
+        //then
+        assertThat(loads).hasValue(2);
+    }
+
+    private static DeveloperCache cache(boolean enabled) {
+        DeveloperCacheProperties properties = new DeveloperCacheProperties();
+        properties.setEnabled(enabled);
+        return new DeveloperCache(properties, new SimpleMeterRegistry());
+    }
+
+    private static Function<Integer, Mono<DeveloperEntity>> counting(AtomicInteger loads, DeveloperEntity developer) {
+        return id -> Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return developer;
+        });
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.qareactive.codec;
+
+import com.example.qareactive.dto.DeveloperDto;
+import com.example.qareactive.entity.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DeveloperDtoEncoderTests {
+
+    private final DeveloperDtoEncoder encoder = new DeveloperDtoEncoder();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("Test encode developer as Jackson does functionality")
+    public void givenDeveloper_whenEncode_thenSameJsonAsJackson() throws Exception {
+        //given
+        DeveloperDto dto = developer(1, "John", "Doe");
+        //when
+        String json = encode(Mono.just(dto), MediaType.APPLICATION_JSON);
+        //then
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(dto));
+    }
+
+    @Test
+    @DisplayName("Test encode developer with null fields functionality")
+    public void givenPartialDeveloper_whenEncode_thenNullFieldsAreOmittedAsJacksonDoes() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperDto.builder()
+                .email("john.doe@mail.com")
+                .status(Status.DELETED)
+                .build();
+        //when
+        String json = encode(Mono.just(dto), MediaType.APPLICATION_JSON);
+        //then
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(dto));
+        assertThat(json).isEqualTo("{\"email\":\"john.doe@mail.com\",\"status\":\"DELETED\"}");
+    }
+
+    @Test
+    @DisplayName("Test encode developer with characters to escape functionality")
+    public void givenDeveloperWithSpecialCharacters_whenEncode_thenSameJsonAsJackson() throws Exception {
+        //given
+        DeveloperDto dto = developer(-42, "Jo\"hn\\ \n\t\r\b\f\u0001\u001f/", "Müller 東京 😀 \u007f");
+        //when
+        String json = encode(Mono.just(dto), MediaType.APPLICATION_JSON);
+        //then
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(dto));
+    }
+
+    @Test
+    @DisplayName("Test encode developer with unpaired surrogates functionality")
+    public void givenDeveloperWithUnpairedSurrogate_whenEncode_thenEncodingException() {
+        //given
+        DeveloperDto highSurrogate = developer(1, "John\uD83D", "Doe");
+        DeveloperDto lowSurrogate = developer(2, "Mike", "\uDE00Smith");
+        //when
+        //then
+        assertThatThrownBy(() -> encode(Mono.just(highSurrogate), MediaType.APPLICATION_JSON))
+                .isInstanceOf(EncodingException.class);
+        assertThatThrownBy(() -> encode(Flux.just(lowSurrogate), MediaType.APPLICATION_NDJSON))
+                .isInstanceOf(EncodingException.class);
+    }
+
+    @Test
+    @DisplayName("Test encode developer with every field set functionality")
+    public void givenFullyPopulatedDeveloper_whenEncode_thenSameJsonAsJackson() throws Exception {
+        //given
+        DeveloperDto dto = new DeveloperDto();
+        for (Field field : DeveloperDto.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            field.set(dto, sampleValue(field));
+        }
+        //when
+        String json = encode(Mono.just(dto), MediaType.APPLICATION_JSON);
+        //then
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(dto));
+    }
+
+    @Test
+    @DisplayName("Test encode developer flux as json array functionality")
+    public void givenDevelopers_whenEncodeAsJson_thenSameArrayAsJackson() throws Exception {
+        //given
+        List<DeveloperDto> developers = List.of(developer(1, "John", "Doe"), developer(2, "Mike", "Smith"));
+        //when
+        String json = encode(Flux.fromIterable(developers), MediaType.APPLICATION_JSON);
+        String empty = encode(Flux.empty(), MediaType.APPLICATION_JSON);
+        //then
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(developers));
+        assertThat(empty).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Test encode developer list functionality")
+    public void givenDeveloperList_whenEncode_thenSameArrayAsJackson() throws Exception {
+        //given
+        List<DeveloperDto> developers = List.of(developer(1, "John", "Doe"), developer(2, "Mike", "Smith"));
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, DeveloperDto.class);
+        //when
+        boolean canEncode = encoder.canEncode(listType, MediaType.APPLICATION_JSON);
+        String json = encode(Mono.just(developers), MediaType.APPLICATION_JSON);
+        String empty = encode(Mono.just(Collections.emptyList()), MediaType.APPLICATION_JSON);
+        //then
+        assertThat(canEncode).isTrue();
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(developers));
+        assertThat(empty).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Test encode developer flux as ndjson functionality")
+    public void givenDevelopers_whenEncodeAsNdjson_thenOneJacksonLinePerDeveloper() throws Exception {
+        //given
+        DeveloperDto john = developer(1, "John", "Doe");
+        DeveloperDto mike = developer(2, "Mike", "Smith");
+        //when
+        String ndjson = encode(Flux.just(john, mike), MediaType.APPLICATION_NDJSON);
+        //then
+        assertThat(ndjson).isEqualTo(objectMapper.writeValueAsString(john) + "\n" + objectMapper.writeValueAsString(mike) + "\n");
+    }
+
+    @Test
+    @DisplayName("Test encoder supported types functionality")
+    public void givenOtherTypesOrCharsets_whenCanEncode_thenFalse() {
+        //given
+        ResolvableType dtoType = ResolvableType.forClass(DeveloperDto.class);
+        //when
+        //then
+        assertThat(encoder.canEncode(dtoType, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(encoder.canEncode(dtoType, null)).isTrue();
+        assertThat(encoder.canEncode(ResolvableType.forClass(Object.class), null)).isFalse();
+        assertThat(encoder.canEncode(ResolvableType.forClass(String.class), MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(encoder.canEncode(ResolvableType.forClass(List.class), MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(encoder.canEncode(dtoType, new MimeType("application", "json", StandardCharsets.ISO_8859_1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test write row as ndjson functionality")
+    public void givenRow_whenToNdjson_thenSameJsonAsJacksonForDto() throws Exception {
+        //given
+        Row row = Mockito.mock(Row.class);
+        BDDMockito.given(row.get(0, Integer.class)).willReturn(7);
+        BDDMockito.given(row.get(1, String.class)).willReturn("Frank");
+        BDDMockito.given(row.get(2, String.class)).willReturn(null);
+        BDDMockito.given(row.get(3, String.class)).willReturn("frank.jones@mail.com");
+        BDDMockito.given(row.get(4, String.class)).willReturn("Java");
+        BDDMockito.given(row.get(5, String.class)).willReturn("ACTIVE");
+        DeveloperDto expected = DeveloperDto.builder()
+                .id(7)
+                .firstName("Frank")
+                .email("frank.jones@mail.com")
+                .specialty("Java")
+                .status(Status.ACTIVE)
+                .build();
+        //when
+        DataBuffer buffer = DeveloperJson.toNdjson(DefaultDataBufferFactory.sharedInstance, row);
+        //then
+        assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(expected) + "\n");
+    }
+
+    private String encode(Publisher<?> input, MimeType mimeType) {
+        return encoder.encode(input, DefaultDataBufferFactory.sharedInstance, ResolvableType.forClass(DeveloperDto.class), mimeType, null)
+                .map(buffer -> {
+                    String chunk = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return chunk;
+                })
+                .reduce("", String::concat)
+                .block();
+    }
+
+    // a new DeveloperDto field fails here until the test, and DeveloperJson, know how to write it
+    private static Object sampleValue(Field field) {
+        if (field.getType() == Integer.class) {
+            return 42;
+        } else if (field.getType() == String.class) {
+            return field.getName() + " value";
+        } else if (field.getType() == Status.class) {
+            return Status.DELETED;
+        }
+        throw new IllegalStateException("No sample value for DeveloperDto." + field.getName() + " of type " + field.getType());
+    }
+
+    private static DeveloperDto developer(Integer id, String firstName, String lastName) {
+        return DeveloperDto.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(firstName.toLowerCase() + "@mail.com")
+                .specialty("Java")
+                .status(Status.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.qareactive.deadline;
+
+import com.example.qareactive.config.DeveloperDeadlineProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class DeadlineWebFilterTests {
+
+    private final DeadlineWebFilter filter = new DeadlineWebFilter(new DeveloperDeadlineProperties());
+
+    @Test
+    @DisplayName("Test request timeout header becomes the context deadline functionality")
+    public void givenRequestTimeoutHeader_whenFilter_thenDeadlineInContext() {
+        //given
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/v1/developers/1")
+                .header("X-Request-Timeout", "1500ms");
+        //when
+        long remainingMillis = remainingMillis(request);
+        //then
+        assertThat(remainingMillis).isCloseTo(1500, within(200L));
+    }
+
+    @Test
+    @DisplayName("Test bare number header is read as milliseconds functionality")
+    public void givenBareNumberHeader_whenFilter_thenMilliseconds() {
+        //given
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/v1/developers/1")
+                .header("X-Request-Timeout", "800");
+        //when
+        long remainingMillis = remainingMillis(request);
+        //then
+        assertThat(remainingMillis).isCloseTo(800, within(200L));
+    }
+
+    @Test
+    @DisplayName("Test request timeout header is capped at the max timeout functionality")
+    public void givenHugeRequestTimeout_whenFilter_thenCappedAtMaxTimeout() {
+        //given
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/v1/developers/1")
+                .header("X-Request-Timeout", "1h");
+        //when
+        long remainingMillis = remainingMillis(request);
+        //then
+        assertThat(remainingMillis).isCloseTo(Duration.ofSeconds(30).toMillis(), within(200L));
+    }
+
+    @Test
+    @DisplayName("Test missing or unreadable header falls back to the default timeout functionality")
+    public void givenMissingOrInvalidHeader_whenFilter_thenDefaultTimeout() {
+        //given
+        MockServerHttpRequest.BaseBuilder<?> missing = MockServerHttpRequest.get("/api/v1/developers/1");
+        MockServerHttpRequest.BaseBuilder<?> invalid = MockServerHttpRequest.get("/api/v1/developers/1")
+                .header("X-Request-Timeout", "soon");
+        //when
+        long missingMillis = remainingMillis(missing);
+        long invalidMillis = remainingMillis(invalid);
+        //then
+        assertThat(missingMillis).isCloseTo(Duration.ofSeconds(10).toMillis(), within(200L));
+        assertThat(invalidMillis).isCloseTo(Duration.ofSeconds(10).toMillis(), within(200L));
+    }
+
+    private long remainingMillis(MockServerHttpRequest.BaseBuilder<?> request) {
+        AtomicLong remainingNanos = new AtomicLong(Long.MIN_VALUE);
+        WebFilterChain chain = exchange -> Mono.deferContextual(context -> {
+            remainingNanos.set(Deadline.from(context).remainingNanos());
+            return Mono.empty();
+        });
+        filter.filter(MockServerWebExchange.from(request), chain).block();
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos.get());
+    }
+}
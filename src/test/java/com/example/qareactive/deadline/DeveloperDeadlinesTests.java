@@ -0,0 +1,169 @@
+package com.example.qareactive.deadline;
+
+import com.example.qareactive.config.DeveloperDeadlineProperties;
+import com.example.qareactive.errorhandling.AppErrorAttributes;
+import com.example.qareactive.exception.DeadlineExceededException;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeveloperDeadlinesTests {
+
+    @Test
+    @DisplayName("Test operation over its timeout fails with deadline exceeded functionality")
+    public void givenSlowOperation_whenApply_thenDeadlineExceeded() {
+        //given
+        DeveloperDeadlines deadlines = deadlines(Duration.ofMillis(50));
+        //when
+        Mono<Integer> result = deadlines.apply("getById", Mono.<Integer>never());
+        //then
+        StepVerifier.create(result)
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Test request deadline shorter than the operation timeout wins functionality")
+    public void givenShortRequestDeadline_whenApply_thenDeadlineExceededBeforeOperationTimeout() {
+        //given
+        DeveloperDeadlines deadlines = deadlines(Duration.ofSeconds(30));
+        //when
+        Mono<Integer> result = deadlines.apply("getById", Mono.<Integer>never())
+                .contextWrite(Deadline.after(Duration.ofMillis(50)));
+        //then
+        StepVerifier.create(result)
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Test expired request deadline skips the operation functionality")
+    public void givenExpiredRequestDeadline_whenApply_thenSourceIsNotSubscribed() {
+        //given
+        DeveloperDeadlines deadlines = deadlines(Duration.ofSeconds(30));
+        AtomicBoolean subscribed = new AtomicBoolean();
+        //when
+        Mono<Integer> result = deadlines.apply("getById", Mono.just(1).doOnSubscribe(s -> subscribed.set(true)))
+                .contextWrite(Deadline.after(Duration.ZERO));
+        //then
+        StepVerifier.create(result)
+                .expectError(DeadlineExceededException.class)
+                .verify();
+        assertThat(subscribed).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test deadline bounds the whole flux rather than each element functionality")
+    public void givenSteadyButSlowFlux_whenApply_thenDeadlineExceededAfterPartialResult() {
+        //given
+        DeveloperDeadlines deadlines = deadlines(Duration.ofMillis(250));
+        //when
+        Flux<Long> result = deadlines.apply("getAll", Flux.interval(Duration.ofMillis(100)));
+        //then
+        StepVerifier.create(result)
+                .expectNext(0L, 1L)
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Test operation within its deadline completes functionality")
+    public void givenFastOperation_whenApply_thenCompletes() {
+        //given
+        DeveloperDeadlines deadlines = deadlines(Duration.ofSeconds(30));
+        //when
+        Flux<Integer> result = deadlines.apply("getAll", Flux.just(1, 2, 3));
+        //then
+        StepVerifier.create(result)
+                .expectNext(1, 2, 3)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test queries are cancelled on the server when the deadline passes functionality")
+    public void givenRunningQuery_whenDeadlinePasses_thenQueryCancelledBeforeUnsubscribe() {
+        //given
+        DeveloperDeadlines deadlines = deadlines(Duration.ofMillis(50));
+        AtomicBoolean queryCancelled = new AtomicBoolean();
+        AtomicBoolean cancelledBeforeUnsubscribe = new AtomicBoolean();
+        Mono<Integer> query = Mono.deferContextual(context -> {
+            QueryCancellation.from(context).register(() -> queryCancelled.set(true));
+            return Mono.<Integer>never()
+                    .doOnCancel(() -> cancelledBeforeUnsubscribe.set(queryCancelled.get()));
+        });
+        //when
+        Mono<Integer> result = deadlines.apply("getById", query);
+        //then
+        StepVerifier.create(result)
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(5));
+        assertThat(queryCancelled).isTrue();
+        assertThat(cancelledBeforeUnsubscribe).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test completed queries are not cancelled on the server functionality")
+    public void givenEarlyUnsubscribeInsideOperation_whenApply_thenQueryNotCancelled() {
+        //given
+        DeveloperDeadlines deadlines = deadlines(Duration.ofSeconds(30));
+        AtomicBoolean queryCancelled = new AtomicBoolean();
+        Flux<Integer> query = Flux.deferContextual(context -> {
+            var registration = QueryCancellation.from(context).register(() -> queryCancelled.set(true));
+            return Flux.range(1, 10).doFinally(signal -> registration.dispose());
+        });
+        //when
+        Mono<Integer> result = deadlines.apply("getById", query.next());
+        //then
+        StepVerifier.create(result)
+                .expectNext(1)
+                .verifyComplete();
+        assertThat(queryCancelled).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test database timeouts map to deadline exceeded functionality")
+    public void givenStatementTimeout_whenApply_thenDeadlineExceeded() {
+        //given
+        DeveloperDeadlines deadlines = deadlines(Duration.ofSeconds(30));
+        R2dbcTimeoutException canceled = new R2dbcTimeoutException("canceling statement due to statement timeout", "57014");
+        //when
+        Mono<Integer> r2dbc = deadlines.apply("getById", Mono.error(new QueryTimeoutException("timeout", canceled)));
+        Flux<Integer> raw = deadlines.apply("getAll", Flux.error(canceled));
+        //then
+        StepVerifier.create(r2dbc)
+                .expectError(DeadlineExceededException.class)
+                .verify();
+        StepVerifier.create(raw)
+                .expectError(DeadlineExceededException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Test deadline exceeded is rendered as 504 functionality")
+    public void givenDeadlineExceeded_whenGetStatus_thenGatewayTimeout() {
+        //given
+        AppErrorAttributes appErrorAttributes = new AppErrorAttributes();
+        //when
+        HttpStatus status = appErrorAttributes.getStatus(DeadlineExceededException.INSTANCE);
+        //then
+        assertThat(status).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(appErrorAttributes.getSerializedErrorBody(DeadlineExceededException.INSTANCE)).isNotNull();
+    }
+
+    private static DeveloperDeadlines deadlines(Duration operationTimeout) {
+        DeveloperDeadlineProperties properties = new DeveloperDeadlineProperties();
+        properties.setOperations(Map.of("getById", operationTimeout, "getAll", operationTimeout));
+        return new DeveloperDeadlines(properties);
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.qareactive.it;
+
+import com.example.qareactive.config.PostgreTestcontainerConfig;
+import com.example.qareactive.deadline.Deadline;
+import com.example.qareactive.deadline.DeveloperDeadlines;
+import com.example.qareactive.entity.Status;
+import com.example.qareactive.exception.DeadlineExceededException;
+import com.example.qareactive.notification.DeveloperChangeEvent;
+import com.example.qareactive.notification.DeveloperChangeListener;
+import com.example.qareactive.notification.DeveloperChangeOperation;
+import com.example.qareactive.repository.DeveloperRepository;
+import com.example.qareactive.repository.DeveloperSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import({PostgreTestcontainerConfig.class})
+public class ItDeveloperRepositoryTests {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private DeveloperDeadlines developerDeadlines;
+
+    @Autowired
+    private DeveloperChangeListener developerChangeListener;
+
+    @BeforeEach
+    public void setUp() {
+        databaseClient.sql("delete from developers").then().block();
+        databaseClient.sql("insert into developers (email, first_name, last_name, specialty, status) " +
+                        "select 'developer' || i || '@mail.com', 'First' || i, 'Last' || i, 'Specialty' || (i % 50), " +
+                        "case when i % 10 = 0 then 'DELETED' else 'ACTIVE' end " +
+                        "from generate_series(1, 20000) as i")
+                .then().block();
+        databaseClient.sql("analyze developers").then().block();
+    }
+
+    @Test
+    @DisplayName("Test find all active by specialty query plan functionality")
+    public void givenSeededDevelopers_whenExplainFindAllActiveBySpecialty_thenPartialIndexIsUsed() {
+        //given
+        String query = "explain " + DeveloperRepository.FIND_ALL_ACTIVE_BY_SPECIALTY;
+        //when
+        String plan = databaseClient.sql(query)
+                .bind("specialty", "Specialty7")
+                .bind("afterId", 0)
+                .bind("limit", 50)
+                .map((row, metadata) -> row.get(0, String.class))
+                .all()
+                .collect(Collectors.joining("\n"))
+                .block();
+        //then
+        System.out.println(plan);
+        assertThat(plan)
+                .doesNotContain("Seq Scan")
+                .doesNotContain("developers_inactive")
+                .contains("developers_active_specialty_id_idx");
+    }
+
+    @Test
+    @DisplayName("Test search query plan functionality")
+    public void givenSeededDevelopers_whenExplainSearchWithoutSeqScan_thenTrigramIndexesAreUsed() {
+        //given
+        String query = "explain " + DeveloperRepository.SEARCH;
+        //when
+        String plan = transactionalOperator.transactional(databaseClient.sql("set local enable_seqscan = off").then()
+                        .thenMany(databaseClient.sql(query)
+                                .bind("query", "First1234")
+                                .bind("pattern", "%First1234%")
+                                .bind("rank", Float.POSITIVE_INFINITY)
+                                .bind("afterId", 0)
+                                .bind("limit", 50)
+                                .map((row, metadata) -> row.get(0, String.class))
+                                .all()))
+                .collect(Collectors.joining("\n"))
+                .block();
+        //then
+        System.out.println(plan);
+        assertThat(plan)
+                .doesNotContain("Seq Scan")
+                .contains("developers_active_first_name_trgm_idx")
+                .contains("developers_active_last_name_trgm_idx")
+                .contains("developers_active_email_trgm_idx");
+    }
+
+    @Test
+    @DisplayName("Test search ranking and cursor functionality")
+    public void givenSeededDevelopers_whenSearchPageByPage_thenExactMatchFirstAndPagesDoNotOverlap() {
+        //given
+        //when
+        List<DeveloperSearchResult> firstPage = developerRepository.search("First1234", Float.POSITIVE_INFINITY, 0, 5)
+                .collectList()
+                .block();
+        DeveloperSearchResult last = firstPage.get(firstPage.size() - 1);
+        List<DeveloperSearchResult> secondPage = developerRepository.search("First1234", last.rank(), last.developer().getId(), 5)
+                .collectList()
+                .block();
+        //then
+        assertThat(firstPage).hasSize(5);
+        assertThat(firstPage.get(0).developer().getFirstName()).isEqualTo("First1234");
+        assertThat(firstPage).extracting(DeveloperSearchResult::rank).isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(secondPage).isNotEmpty();
+        assertThat(secondPage).extracting(result -> result.developer().getId())
+                .doesNotContainAnyElementsOf(firstPage.stream().map(result -> result.developer().getId()).toList());
+        assertThat(secondPage.get(0).rank()).isLessThanOrEqualTo(last.rank());
+    }
+
+    @Test
+    @DisplayName("Test search with like wildcards functionality")
+    public void givenSeededDevelopers_whenSearchWithWildcards_thenWildcardsAreMatchedLiterally() {
+        //given
+        //when
+        List<DeveloperSearchResult> results = developerRepository.search("%_%", Float.POSITIVE_INFINITY, 0, 5)
+                .collectList()
+                .block();
+        //then
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test query past its deadline is cancelled on the server functionality")
+    public void givenSlowQuery_whenDeadlinePasses_thenBackendStopsRunningIt() {
+        //given
+        Mono<Void> slowQuery = developerDeadlines.apply("getById", databaseClient.sql("select pg_sleep(30)").then())
+                .contextWrite(Deadline.after(Duration.ofMillis(500)));
+        Mono<Long> running = databaseClient.sql("select count(*) from pg_stat_activity where state = 'active' and query = 'select pg_sleep(30)'")
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one();
+        //when
+        StepVerifier.create(slowQuery)
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(5));
+        //then
+        Long stillRunning = Flux.interval(Duration.ofMillis(100))
+                .concatMap(tick -> running)
+                .filter(count -> count == 0)
+                .next()
+                .block(Duration.ofSeconds(5));
+        assertThat(stillRunning).isZero();
+    }
+
+    @Test
+    @DisplayName("Test bulk partition move notifies every developer once functionality")
+    public void givenActiveDevelopers_whenSoftDeleteAllInOneStatement_thenOneSoftDeleteEventPerDeveloper() {
+        //given
+        Set<Integer> ids = new HashSet<>(databaseClient.sql("select id from developers where status = 'ACTIVE' and specialty = 'Specialty7'")
+                .map((row, metadata) -> row.get(0, Integer.class))
+                .all()
+                .collectList()
+                .block());
+        Flux<DeveloperChangeEvent> softDeletes = developerChangeListener.changes()
+                .filter(change -> change.getOperation() == DeveloperChangeOperation.SOFT_DELETE && ids.contains(change.getId()));
+        //when
+        //then
+        StepVerifier.create(softDeletes.map(DeveloperChangeEvent::getId).take(ids.size()).collect(Collectors.toSet()))
+                .then(() -> databaseClient.sql("update developers set status = 'DELETED' where status = 'ACTIVE' and specialty = 'Specialty7'")
+                        .then()
+                        .block())
+                .expectNext(ids)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+        assertThat(ids).hasSizeGreaterThan(300);
+        assertThat(developerRepository.findById(ids.iterator().next()).block().getStatus()).isEqualTo(Status.DELETED);
+    }
+}
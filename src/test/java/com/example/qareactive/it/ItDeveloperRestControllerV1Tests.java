@@ -1,8 +1,11 @@
 package com.example.qareactive.it;
 
 import com.example.qareactive.config.PostgreTestcontainerConfig;
+import com.example.qareactive.dto.DeveloperChangeDto;
 import com.example.qareactive.dto.DeveloperDto;
 import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.entity.Status;
+import com.example.qareactive.notification.DeveloperChangeOperation;
 import com.example.qareactive.repository.DeveloperRepository;
 import com.example.qareactive.util.DataUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,12 +16,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -83,6 +93,64 @@ public class ItDeveloperRestControllerV1Tests {
                 .jsonPath("$.errors[0].message").isEqualTo("Developer with defined email already exists");
     }
 
+    @Test
+    @DisplayName("Test create developer with duplicate email in different case functionality")
+    public void givenDeveloperDtoWithDuplicateEmailInDifferentCase_whenCreateDeveloper_thenExceptionResponse() {
+        //given
+        DeveloperEntity entity = DataUtils.getJohnDoeTransient();
+        entity.setEmail("duplicate@gmail.com");
+        developerRepository.save(entity).block();
+
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        dto.setEmail("Duplicate@Gmail.com");
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(dto), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_DUPLICATE_EMAIL")
+                .jsonPath("$.errors[0].message").isEqualTo("Developer with defined email already exists");
+    }
+
+    @Test
+    @DisplayName("Test batch create developers functionality")
+    public void givenDeveloperDtosWithDuplicates_whenCreateDevelopers_thenPerItemResponse() {
+        //given
+        String duplicateEmail = "duplicate@gmail.com";
+        DeveloperEntity entity = DataUtils.getJohnDoeTransient();
+        entity.setEmail(duplicateEmail);
+        developerRepository.save(entity).block();
+
+        DeveloperDto existing = DataUtils.getJohnDoeDtoTransient();
+        existing.setEmail(duplicateEmail);
+        DeveloperDto mikeSmith = DataUtils.getMikeSmithDtoTransient();
+        DeveloperDto mikeSmithAgain = DataUtils.getMikeSmithDtoTransient();
+        DeveloperDto withoutEmail = DataUtils.getFrankJonesDtoTransient();
+        withoutEmail.setEmail(null);
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Flux.just(existing, mikeSmith, mikeSmithAgain, withoutEmail), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.size()").isEqualTo(4)
+                .jsonPath("$[0].errors[0].code").isEqualTo("DEVELOPER_DUPLICATE_EMAIL")
+                .jsonPath("$[1].developer.id").isNotEmpty()
+                .jsonPath("$[1].developer.status").isEqualTo("ACTIVE")
+                .jsonPath("$[2].errors[0].code").isEqualTo("DEVELOPER_DUPLICATE_EMAIL")
+                .jsonPath("$[3].status").isEqualTo(400)
+                .jsonPath("$[3].errors[0].code").isEqualTo("DEVELOPER_EMAIL_REQUIRED");
+    }
+
     @Test
     @DisplayName("Test update developer functionality")
     public void givenDeveloperDto_whenUpdateDeveloper_thenSuccessResponse() {
@@ -132,6 +200,107 @@ public class ItDeveloperRestControllerV1Tests {
     }
 
 
+    @Test
+    @DisplayName("Test patch developer functionality")
+    public void givenPartialDeveloperDto_whenPatchDeveloper_thenOnlyPresentFieldsAreUpdated() {
+        //given
+        DeveloperEntity entity = DataUtils.getJohnDoeTransient();
+        developerRepository.save(entity).block();
+
+        DeveloperDto dto = DeveloperDto.builder()
+                .specialty("Kotlin")
+                .build();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.patch()
+                .uri("/api/v1/developers/" + entity.getId())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(dto), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.id").isEqualTo(entity.getId())
+                .jsonPath("$.firstName").isEqualTo("John")
+                .jsonPath("$.email").isEqualTo(entity.getEmail())
+                .jsonPath("$.specialty").isEqualTo("Kotlin")
+                .jsonPath("$.status").isEqualTo("ACTIVE");
+    }
+
+    @Test
+    @DisplayName("Test patch developer with stale version functionality")
+    public void givenStaleIfMatch_whenPatchDeveloper_thenExceptionResponse() {
+        //given
+        DeveloperEntity entity = DataUtils.getJohnDoeTransient();
+        developerRepository.save(entity).block();
+
+        DeveloperDto dto = DeveloperDto.builder()
+                .specialty("Kotlin")
+                .build();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.patch()
+                .uri("/api/v1/developers/" + entity.getId())
+                .header(HttpHeaders.IF_MATCH, "\"5\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(dto), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isEqualTo(412)
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_VERSION_MISMATCH");
+    }
+
+    @Test
+    @DisplayName("Test update developer without email functionality")
+    public void givenDeveloperDtoWithoutEmail_whenUpdateDeveloper_thenExceptionResponse() {
+        //given
+        DeveloperEntity entity = DataUtils.getJohnDoeTransient();
+        developerRepository.save(entity).block();
+
+        DeveloperDto dto = DataUtils.getJohnDoeDtoPersisted();
+        dto.setId(entity.getId());
+        dto.setEmail(null);
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.put()
+                .uri("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(dto), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_EMAIL_REQUIRED");
+        assertThat(developerRepository.findById(entity.getId()).block().getEmail()).isEqualTo(entity.getEmail());
+    }
+
+    @Test
+    @DisplayName("Test patch developer with blank email functionality")
+    public void givenBlankEmail_whenPatchDeveloper_thenExceptionResponse() {
+        //given
+        DeveloperEntity entity = DataUtils.getJohnDoeTransient();
+        developerRepository.save(entity).block();
+
+        DeveloperDto dto = DeveloperDto.builder()
+                .email(" ")
+                .build();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.patch()
+                .uri("/api/v1/developers/" + entity.getId())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(dto), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_EMAIL_REQUIRED");
+    }
+
     @Test
     @DisplayName("Test get all developers functionality")
     public void givenThreeDevelopers_whenGetAllDevelopers_thenSuccessResponse() {
@@ -152,6 +321,26 @@ public class ItDeveloperRestControllerV1Tests {
                 .jsonPath("$.size()").isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("Test get specialty stats functionality")
+    public void givenDevelopers_whenSoftDeleteAndGetSpecialtyStats_thenCountsFollowMutations() {
+        //given
+        DeveloperEntity e1 = developerRepository.save(DataUtils.getJohnDoeTransient()).block();
+        developerRepository.save(DataUtils.getFrankJonesTransient()).block();
+        developerRepository.save(DataUtils.getMikeSmithTransient()).block();
+        developerRepository.softDeleteById(e1.getId()).block();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/stats")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$[?(@.status == 'ACTIVE')].count").isEqualTo(List.of(1))
+                .jsonPath("$[?(@.status == 'DELETED')].count").isEqualTo(List.of(2));
+    }
+
     @Test
     @DisplayName("Test get developer by id functionality")
     public void givenId_whenGetById_thenDeveloperIsReturned() {
@@ -253,4 +442,288 @@ public class ItDeveloperRestControllerV1Tests {
                 .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_NOT_FOUND")
                 .jsonPath("$.errors[0].message").isEqualTo("Developer not found");
     }
+
+    @Test
+    @DisplayName("Test developer metrics are exported through prometheus functionality")
+    public void givenNotFoundRequest_whenScrapePrometheus_thenServiceRepositoryAndPoolMetricsArePresent() {
+        //given
+        webTestClient.get()
+                .uri("/api/v1/developers/1")
+                .exchange()
+                .expectStatus().isNotFound();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/actuator/prometheus")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> assertThat(body)
+                        .contains("developers_service_seconds_count{code=\"DEVELOPER_NOT_FOUND\",operation=\"getById\",outcome=\"error\"")
+                        .contains("developers_repository_seconds_count{code=\"none\",operation=\"findAllByIds\",outcome=\"success\"")
+                        .contains("developers_errors_total{code=\"DEVELOPER_NOT_FOUND\",status=\"404\"")
+                        .contains("r2dbc_pool_acquire_seconds_count")
+                        .contains("r2dbc_pool_acquired_connections"));
+    }
+
+    @Test
+    @DisplayName("Test restore soft deleted developer functionality")
+    public void givenSoftDeletedDeveloper_whenRestore_thenDeveloperIsActiveAgain() {
+        //given
+        DeveloperEntity e1 = developerRepository.save(DataUtils.getJohnDoeTransient()).block();
+        developerRepository.softDeleteById(e1.getId()).block();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/" + e1.getId() + "/restore")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.id").isEqualTo(e1.getId())
+                .jsonPath("$.status").isEqualTo("ACTIVE");
+        webTestClient.get()
+                .uri("/api/v1/developers/specialty/Java")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.size()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(e1.getId());
+    }
+
+    @Test
+    @DisplayName("Test restore developer by incorrect id functionality")
+    public void givenIncorrectId_whenRestore_thenExceptionResponse() {
+        //given
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/1/restore")
+                .exchange();
+        //then
+        result.expectStatus().isNotFound()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("Test create developer with email of soft deleted developer functionality")
+    public void givenSoftDeletedDeveloper_whenCreateDeveloperWithSameEmail_thenExceptionResponse() {
+        //given
+        DeveloperEntity e1 = developerRepository.save(DataUtils.getFrankJonesTransient()).block();
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        dto.setEmail(e1.getEmail().toUpperCase());
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(dto), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_DUPLICATE_EMAIL");
+    }
+
+    @Test
+    @DisplayName("Test import and export developers csv functionality")
+    public void givenCsv_whenImportAndExportDevelopers_thenRowsRoundTrip() {
+        //given
+        String csv = "email,first_name,last_name,specialty,status\n" +
+                "john.doe@mail.com,John,Doe,Java,ACTIVE\n" +
+                "frank.jones@mail.com,Frank,\"Jones, Jr.\",Java,DELETED\n";
+        //when
+        WebTestClient.ResponseSpec imported = webTestClient.post()
+                .uri("/api/v1/developers/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange();
+        WebTestClient.ResponseSpec exported = webTestClient.get()
+                .uri("/api/v1/developers/export")
+                .exchange();
+        //then
+        imported.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.imported").isEqualTo(2);
+        String body = exported.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("text/csv")
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+        List<DeveloperEntity> developers = developerRepository.findAll().collectList().block();
+        assertThat(developers).hasSize(2);
+        assertThat(body).startsWith("id,email,first_name,last_name,specialty,status,version\n")
+                .contains("john.doe@mail.com,John,Doe,Java,ACTIVE,0\n")
+                .contains("frank.jones@mail.com,Frank,\"Jones, Jr.\",Java,DELETED,0\n");
+    }
+
+    @Test
+    @DisplayName("Test import exported developers csv functionality")
+    public void givenExportedCsv_whenImportDevelopers_thenExceptionResponse() {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient()).block();
+        String exported = webTestClient.get()
+                .uri("/api/v1/developers/export")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+        developerRepository.deleteAll().block();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(exported)
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_IMPORT_INVALID");
+        assertThat(developerRepository.count().block()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test import developers csv with duplicate email functionality")
+    public void givenExistingDeveloper_whenImportDuplicateEmail_thenNothingIsImported() {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient()).block();
+        String csv = "email,first_name,last_name,specialty,status\n" +
+                "mike.smith@mail.com,Mike,Smith,Java,ACTIVE\n" +
+                "JOHN.DOE@mail.com,John,Doe,Java,ACTIVE\n";
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_DUPLICATE_EMAIL");
+        assertThat(developerRepository.count().block()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test import developers csv with invalid status functionality")
+    public void givenInvalidStatus_whenImportDevelopers_thenExceptionResponse() {
+        //given
+        String csv = "email,first_name,last_name,specialty,status\n" +
+                "mike.smith@mail.com,Mike,Smith,Java,RETIRED\n";
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_IMPORT_INVALID");
+    }
+
+    @Test
+    @DisplayName("Test import developers csv with missing email functionality")
+    public void givenMissingEmail_whenImportDevelopers_thenExceptionResponse() {
+        //given
+        String csv = "email,first_name,last_name,specialty,status\n" +
+                "mike.smith@mail.com,Mike,Smith,Java,ACTIVE\n" +
+                ",John,Doe,Java,ACTIVE\n";
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_IMPORT_INVALID");
+        assertThat(developerRepository.count().block()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test create developer without email functionality")
+    public void givenDeveloperDtoWithoutEmail_whenCreateDeveloper_thenExceptionResponse() {
+        //given
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        dto.setEmail(" ");
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(dto), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_EMAIL_REQUIRED");
+        assertThat(developerRepository.count().block()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test stream developer changes functionality")
+    public void givenChangesSubscriber_whenCreateAndSoftDeleteDeveloper_thenChangeEventsArePushed() {
+        //given
+        Flux<ServerSentEvent<DeveloperChangeDto>> changes = webTestClient.get()
+                .uri("/api/v1/developers/changes")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<DeveloperChangeDto>>() {
+                })
+                .getResponseBody();
+        //when
+        //then
+        StepVerifier.create(changes.filter(event -> event.data() != null)
+                        .map(ServerSentEvent::data)
+                        .filter(change -> change.getOperation() != DeveloperChangeOperation.HARD_DELETE))
+                .then(() -> {
+                    DeveloperEntity created = developerRepository.save(DataUtils.getJohnDoeTransient()).block();
+                    developerRepository.softDeleteById(created.getId()).block();
+                })
+                .expectNextMatches(change -> change.getOperation() == DeveloperChangeOperation.CREATE
+                        && "John".equals(change.getDeveloper().getFirstName()))
+                .expectNextMatches(change -> change.getOperation() == DeveloperChangeOperation.SOFT_DELETE
+                        && change.getDeveloper().getStatus() == Status.DELETED)
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Test stream all developers as NDJSON after a cancelled stream functionality")
+    public void givenCancelledStream_whenStreamAllDevelopers_thenAllDevelopersAreStreamed() {
+        //given
+        developerRepository.saveAll(Flux.range(0, 50).map(DataUtils::getDeveloperTransient)).blockLast();
+        StepVerifier.create(webTestClient.get()
+                        .uri("/api/v1/developers")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .exchange()
+                        .expectStatus().isOk()
+                        .returnResult(DeveloperDto.class)
+                        .getResponseBody(), 5)
+                .expectNextCount(5)
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+        //when
+        List<DeveloperDto> developers = webTestClient.get()
+                .uri("/api/v1/developers")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(DeveloperDto.class)
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        //then
+        assertThat(developers).hasSize(50);
+        assertThat(developers).isSortedAccordingTo((first, second) -> Integer.compare(first.getId(), second.getId()));
+    }
 }
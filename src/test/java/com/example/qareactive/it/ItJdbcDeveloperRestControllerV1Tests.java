@@ -0,0 +1,8 @@
+package com.example.qareactive.it;
+
+import org.springframework.test.context.ActiveProfiles;
+
+// the same HTTP contract, served by the JDBC service on virtual threads
+@ActiveProfiles("jdbc")
+public class ItJdbcDeveloperRestControllerV1Tests extends ItDeveloperRestControllerV1Tests {
+}
@@ -0,0 +1,65 @@
+package com.example.qareactive.it;
+
+import com.example.qareactive.config.PostgreTestcontainerConfig;
+import com.example.qareactive.deadline.Deadline;
+import com.example.qareactive.deadline.DeveloperDeadlines;
+import com.example.qareactive.deadline.JdbcQueryCancellation;
+import com.example.qareactive.exception.DeadlineExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// with a single pooled connection the next query has to reuse the backend the timed out statement ran on
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.minimum-idle=1",
+        "spring.datasource.hikari.maximum-pool-size=1"
+})
+@ActiveProfiles("jdbc")
+@Import({PostgreTestcontainerConfig.class})
+public class ItJdbcQueryCancellationTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Scheduler jdbcScheduler;
+
+    @Autowired
+    private DeveloperDeadlines developerDeadlines;
+
+    @Test
+    @DisplayName("Test jdbc query past its deadline is cancelled on the server functionality")
+    public void givenSlowJdbcQuery_whenDeadlinePasses_thenServerCancelsItAndConnectionIsKept() {
+        for (int attempt = 0; attempt < 5; attempt++) {
+            //given
+            Integer backend = jdbcTemplate.queryForObject("select pg_backend_pid()", Integer.class);
+            Mono<Void> slowQuery = developerDeadlines.apply("getById",
+                            JdbcQueryCancellation.call(jdbcScheduler, () -> {
+                                jdbcTemplate.execute("select pg_sleep(30)");
+                                return null;
+                            }))
+                    .then()
+                    .contextWrite(Deadline.after(Duration.ofMillis(200)));
+            //when
+            StepVerifier.create(slowQuery)
+                    .expectError(DeadlineExceededException.class)
+                    .verify(Duration.ofSeconds(5));
+            //then
+            assertThat(jdbcTemplate.queryForObject("select pg_backend_pid()", Integer.class)).isEqualTo(backend);
+            assertThat(jdbcTemplate.queryForObject(
+                    "select count(*) from pg_stat_activity where query = 'select pg_sleep(30)' and state = 'active'",
+                    Integer.class)).isZero();
+        }
+    }
+}
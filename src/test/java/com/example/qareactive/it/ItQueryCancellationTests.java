@@ -0,0 +1,58 @@
+package com.example.qareactive.it;
+
+import com.example.qareactive.config.PostgreTestcontainerConfig;
+import com.example.qareactive.deadline.Deadline;
+import com.example.qareactive.deadline.DeveloperDeadlines;
+import com.example.qareactive.exception.DeadlineExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// a single pooled connection makes the query right after a cancel borrow the slot the cancelled one released
+@SpringBootTest(properties = {
+        "spring.r2dbc.pool.initial-size=1",
+        "spring.r2dbc.pool.min-idle=1",
+        "spring.r2dbc.pool.max-size=1"
+})
+@Import({PostgreTestcontainerConfig.class})
+public class ItQueryCancellationTests {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private DeveloperDeadlines developerDeadlines;
+
+    @Test
+    @DisplayName("Test next query on the pool after a cancelled one functionality")
+    public void givenCancelledQuery_whenNextQueryRunsOnSamePool_thenItSucceedsOnAnotherBackend() {
+        for (int attempt = 0; attempt < 10; attempt++) {
+            //given
+            Integer cancelledBackend = backendPid().block(Duration.ofSeconds(5));
+            Mono<Void> slowQuery = developerDeadlines.apply("getById", databaseClient.sql("select pg_sleep(30)").then())
+                    .contextWrite(Deadline.after(Duration.ofMillis(200)));
+            StepVerifier.create(slowQuery)
+                    .expectError(DeadlineExceededException.class)
+                    .verify(Duration.ofSeconds(5));
+            //when
+            Integer nextBackend = backendPid().block(Duration.ofSeconds(5));
+            //then
+            assertThat(nextBackend).isNotNull().isNotEqualTo(cancelledBackend);
+        }
+    }
+
+    private Mono<Integer> backendPid() {
+        return databaseClient.sql("select pg_backend_pid()")
+                .map((row, metadata) -> row.get(0, Integer.class))
+                .one();
+    }
+}
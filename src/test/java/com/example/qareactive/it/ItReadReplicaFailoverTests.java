@@ -0,0 +1,105 @@
+package com.example.qareactive.it;
+
+import com.example.qareactive.config.PostgreTestcontainerConfig;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.repository.DeveloperRepository;
+import com.example.qareactive.util.DataUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// stops its replica, so it gets its own container and context rather than sharing ItReadReplicaRoutingTests'
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.r2dbc.read.health-check-interval=200ms",
+        "app.r2dbc.read.health-check-timeout=500ms"
+})
+@AutoConfigureWebTestClient
+@Import({PostgreTestcontainerConfig.class})
+public class ItReadReplicaFailoverTests {
+
+    @Container
+    private static final PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:latest");
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.r2dbc.read.replicas[0].url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(
+                replica.getHost(), replica.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), replica.getDatabaseName()));
+        registry.add("app.r2dbc.read.replicas[0].username", replica::getUsername);
+        registry.add("app.r2dbc.read.replicas[0].password", replica::getPassword);
+    }
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @Test
+    @DisplayName("Test reads fall back to primary when the replica goes down functionality")
+    public void givenHealthyReplica_whenReplicaStops_thenReadsAreServedByPrimary() throws InterruptedException {
+        //given
+        developerRepository.deleteAll().block();
+        developerRepository.save(DataUtils.getJohnDoeTransient()).block();
+        DeveloperEntity mike = DataUtils.getMikeSmithTransient();
+        new JdbcTemplate(new DriverManagerDataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword()))
+                .update("insert into developers (email, first_name, last_name, specialty, status) values (?, ?, ?, ?, 'ACTIVE')",
+                        mike.getEmail(), mike.getFirstName(), mike.getLastName(), mike.getSpecialty());
+        assertThat(firstNames()).containsExactly("Mike");
+        //when
+        replica.stop();
+        //then
+        List<String> firstNames = List.of();
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (!firstNames.equals(List.of("John")) && System.nanoTime() < deadline) {
+            Thread.sleep(200);
+            firstNames = firstNames();
+        }
+        assertThat(firstNames).containsExactly("John");
+    }
+
+    // reads racing the health check may still fail on the dead replica, which counts as not yet failed over
+    private List<String> firstNames() {
+        EntityExchangeResult<JsonNode> result = webTestClient.get()
+                .uri("/api/v1/developers")
+                .exchange()
+                .expectBody(JsonNode.class)
+                .returnResult();
+        JsonNode body = result.getResponseBody();
+        if (!result.getStatus().is2xxSuccessful() || body == null || !body.isArray()) {
+            return List.of();
+        }
+        List<String> firstNames = new ArrayList<>();
+        body.forEach(developer -> firstNames.add(developer.get("firstName").asText()));
+        return firstNames;
+    }
+}
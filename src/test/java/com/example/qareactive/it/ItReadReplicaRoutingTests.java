@@ -0,0 +1,218 @@
+package com.example.qareactive.it;
+
+import com.example.qareactive.config.PostgreTestcontainerConfig;
+import com.example.qareactive.dto.DeveloperDto;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.repository.DeveloperRepository;
+import com.example.qareactive.util.DataUtils;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// the replica is a second, unreplicated instance: rows seeded only there prove which database served a read
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@Import({PostgreTestcontainerConfig.class})
+public class ItReadReplicaRoutingTests {
+
+    @Container
+    private static final PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:latest");
+
+    private static JdbcTemplate replicaJdbcTemplate;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.r2dbc.read.replicas[0].url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(
+                replica.getHost(), replica.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), replica.getDatabaseName()));
+        registry.add("app.r2dbc.read.replicas[0].username", replica::getUsername);
+        registry.add("app.r2dbc.read.replicas[0].password", replica::getPassword);
+    }
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .load()
+                .migrate();
+        replicaJdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword()));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll().block();
+        replicaJdbcTemplate.update("delete from developers");
+    }
+
+    @Test
+    @DisplayName("Test get all developers from replica functionality")
+    public void givenDevelopersOnPrimaryAndReplica_whenGetAllDevelopers_thenReplicaRowsAreReturned() {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient()).block();
+        insertIntoReplica(DataUtils.getMikeSmithTransient());
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.size()").isEqualTo(1)
+                .jsonPath("$[0].firstName").isEqualTo("Mike");
+    }
+
+    @Test
+    @DisplayName("Test get developer by id from replica functionality")
+    public void givenDeveloperOnReplicaOnly_whenGetById_thenDeveloperIsReturned() {
+        //given
+        Integer id = insertIntoReplica(DataUtils.getMikeSmithTransient());
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/" + id)
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.id").isEqualTo(id)
+                .jsonPath("$.firstName").isEqualTo("Mike");
+    }
+
+    @Test
+    @DisplayName("Test get active developers by specialty from replica functionality")
+    public void givenDevelopersOnPrimaryAndReplica_whenGetBySpecialty_thenReplicaRowsAreReturned() {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient()).block();
+        insertIntoReplica(DataUtils.getMikeSmithTransient());
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/specialty/Java")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.size()").isEqualTo(1)
+                .jsonPath("$[0].firstName").isEqualTo("Mike");
+    }
+
+    @Test
+    @DisplayName("Test create developer on primary functionality")
+    public void givenDeveloperDto_whenCreateDeveloper_thenPrimaryIsWritten() {
+        //given
+        DeveloperDto dto = DataUtils.getJohnDoeDtoTransient();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(dto), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isOk();
+        assertThat(developerRepository.findByEmail(dto.getEmail()).block()).isNotNull();
+        assertThat(replicaJdbcTemplate.queryForObject("select count(*) from developers", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Test get developer after soft delete reads own write functionality")
+    public void givenStaleActiveRowOnReplica_whenSoftDeleteThenGetById_thenDeletedDeveloperIsReturned() {
+        //given
+        DeveloperEntity john = developerRepository.save(DataUtils.getJohnDoeTransient()).block();
+        insertIntoReplica(john.getId(), john);
+        webTestClient.delete()
+                .uri("/api/v1/developers/" + john.getId())
+                .exchange()
+                .expectStatus().isOk();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/" + john.getId())
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.status").isEqualTo("DELETED");
+    }
+
+    @Test
+    @DisplayName("Test get developer after hard delete reads own write functionality")
+    public void givenStaleRowOnReplica_whenHardDeleteThenGetById_thenNotFoundIsReturned() {
+        //given
+        DeveloperEntity john = developerRepository.save(DataUtils.getJohnDoeTransient()).block();
+        insertIntoReplica(john.getId(), john);
+        webTestClient.delete()
+                .uri("/api/v1/developers/" + john.getId() + "?isHard=true")
+                .exchange()
+                .expectStatus().isOk();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/" + john.getId())
+                .exchange();
+        //then
+        result.expectStatus().isNotFound()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("Test get developer after create reads own write functionality")
+    public void givenCreatedDeveloperMissingOnReplica_whenGetById_thenDeveloperIsReturned() {
+        //given
+        DeveloperDto created = webTestClient.post()
+                .uri("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(DataUtils.getJohnDoeDtoTransient()), DeveloperDto.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(DeveloperDto.class)
+                .returnResult()
+                .getResponseBody();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/" + created.getId())
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.firstName").isEqualTo("John");
+    }
+
+    private void insertIntoReplica(Integer id, DeveloperEntity developer) {
+        replicaJdbcTemplate.update("insert into developers (id, email, first_name, last_name, specialty, status) values (?, ?, ?, ?, ?, 'ACTIVE')",
+                id, developer.getEmail(), developer.getFirstName(), developer.getLastName(), developer.getSpecialty());
+    }
+
+    private Integer insertIntoReplica(DeveloperEntity developer) {
+        return replicaJdbcTemplate.queryForObject(
+                "insert into developers (email, first_name, last_name, specialty, status) values (?, ?, ?, ?, ?) returning id",
+                Integer.class, developer.getEmail(), developer.getFirstName(), developer.getLastName(),
+                developer.getSpecialty(), developer.getStatus().name());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.qareactive.it;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// migrates a database that already holds developers without an email, as a deployment from before V10 would
+@Testcontainers
+public class ItRequireDevelopersEmailMigrationTests {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest");
+
+    @Test
+    @DisplayName("Test developers without an email are set aside before the email constraint functionality")
+    public void givenDevelopersWithoutEmail_whenMigrateToLatest_thenTheyAreMovedAsideAndTheRestKept() {
+        //given
+        migrate("9");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(postgres.getJdbcUrl(),
+                postgres.getUsername(), postgres.getPassword()));
+        jdbcTemplate.update("insert into developers (email, first_name, last_name, specialty, status) values " +
+                "('john.doe@mail.com', 'John', 'Doe', 'Java', 'ACTIVE'), " +
+                "(null, 'Mike', 'Smith', 'Java', 'ACTIVE'), " +
+                "(' ', 'Frank', 'Jones', 'Java', 'DELETED')");
+        //when
+        migrate(null);
+        //then
+        List<String> kept = jdbcTemplate.queryForList("select first_name from developers order by id", String.class);
+        List<String> setAside = jdbcTemplate.queryForList("select first_name from developers_missing_email order by id", String.class);
+        assertThat(kept).containsExactly("John");
+        assertThat(setAside).containsExactly("Mike", "Frank");
+    }
+
+    private static void migrate(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        if (target != null) {
+            configuration.target(target);
+        }
+        configuration.load().migrate();
+    }
+}
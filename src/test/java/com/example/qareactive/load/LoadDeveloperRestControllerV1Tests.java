@@ -0,0 +1,188 @@
+package com.example.qareactive.load;
+
+import com.example.qareactive.config.PostgreTestcontainerConfig;
+import com.example.qareactive.dto.DeveloperDto;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.repository.DeveloperRepository;
+import com.example.qareactive.util.DataUtils;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import({PostgreTestcontainerConfig.class})
+@ActiveProfiles("loadtest")
+public class LoadDeveloperRestControllerV1Tests {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Value("${loadtest.seed-size}")
+    private int seedSize;
+    @Value("${loadtest.target-rps}")
+    private int targetRps;
+    @Value("${loadtest.warmup-seconds}")
+    private int warmupSeconds;
+    @Value("${loadtest.duration-seconds}")
+    private int durationSeconds;
+    @Value("${loadtest.max-concurrency}")
+    private int maxConcurrency;
+    @Value("${loadtest.slo.p50-millis}")
+    private long p50Millis;
+    @Value("${loadtest.slo.p99-millis}")
+    private long p99Millis;
+    @Value("${loadtest.slo.p999-millis}")
+    private long p999Millis;
+    @Value("${loadtest.slo.min-throughput-ratio}")
+    private double minThroughputRatio;
+    @Value("${loadtest.slo.max-error-rate}")
+    private double maxErrorRate;
+
+    private WebClient webClient;
+    private List<Integer> seededIds;
+    private final Queue<Integer> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger createdSequence = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll().block();
+        Flux.range(0, seedSize)
+                .map(DataUtils::getDeveloperTransient)
+                .buffer(1_000)
+                .concatMap(developerRepository::insertAll)
+                .blockLast();
+        seededIds = developerRepository.findAll()
+                .map(DeveloperEntity::getId)
+                .collectList()
+                .block();
+        webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + port + "/api/v1/developers")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Test mixed developer traffic at target rps meets latency SLOs")
+    public void givenSeededDevelopers_whenMixedTrafficAtTargetRps_thenLatencySlosAreMet() {
+        //given
+        run(warmupSeconds, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3), new AtomicLong(), new AtomicLong());
+
+        Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        AtomicLong errors = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        //when
+        double elapsedSeconds = run(durationSeconds, latencies, errors, dropped);
+        //then
+        long completed = latencies.getTotalCount();
+        double throughput = (completed - errors.get()) / elapsedSeconds;
+        double errorRate = (double) errors.get() / Math.max(1, completed);
+        long p50 = latencies.getValueAtPercentile(50.0);
+        long p99 = latencies.getValueAtPercentile(99.0);
+        long p999 = latencies.getValueAtPercentile(99.9);
+        System.out.printf("load test: target=%d rps, throughput=%.1f rps, completed=%d, errors=%d, dropped=%d, " +
+                        "p50=%d us, p99=%d us, p999=%d us, max=%d us%n",
+                targetRps, throughput, completed, errors.get(), dropped.get(), p50, p99, p999, latencies.getMaxValue());
+
+        assertThat(p50).as("p50 latency (us)").isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toMicros(p50Millis));
+        assertThat(p99).as("p99 latency (us)").isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toMicros(p99Millis));
+        assertThat(p999).as("p999 latency (us)").isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toMicros(p999Millis));
+        assertThat(throughput).as("throughput (rps)").isGreaterThanOrEqualTo(targetRps * minThroughputRatio);
+        assertThat(errorRate).as("error rate").isLessThanOrEqualTo(maxErrorRate);
+    }
+
+    private double run(int seconds, Histogram latencies, AtomicLong errors, AtomicLong dropped) {
+        long start = System.nanoTime();
+        Flux.interval(Duration.ofNanos(TimeUnit.SECONDS.toNanos(1) / targetRps))
+                .take((long) targetRps * seconds)
+                .onBackpressureDrop(tick -> dropped.incrementAndGet())
+                .flatMap(tick -> timed(nextOperation(), latencies, errors), maxConcurrency)
+                .blockLast();
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+    private Mono<?> timed(Mono<?> operation, Histogram latencies, AtomicLong errors) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return operation
+                    .doOnError(e -> errors.incrementAndGet())
+                    .onErrorResume(e -> Mono.empty())
+                    .doFinally(signal -> latencies.recordValue(
+                            Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start))));
+        });
+    }
+
+    private Mono<?> nextOperation() {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        if (roll < 60) {
+            return getById();
+        } else if (roll < 75) {
+            return webClient.get()
+                    .uri("/specialty/Specialty{specialty}?limit=20", ThreadLocalRandom.current().nextInt(20))
+                    .retrieve()
+                    .toBodilessEntity();
+        } else if (roll < 85) {
+            DeveloperDto dto = DeveloperDto.fromEntity(DataUtils.getDeveloperTransient(seedSize + createdSequence.incrementAndGet()));
+            return webClient.post()
+                    .bodyValue(dto)
+                    .retrieve()
+                    .bodyToMono(DeveloperDto.class)
+                    .doOnNext(created -> createdIds.add(created.getId()));
+        } else if (roll < 95) {
+            DeveloperDto dto = DeveloperDto.builder()
+                    .specialty("Specialty" + ThreadLocalRandom.current().nextInt(20))
+                    .build();
+            return webClient.patch()
+                    .uri("/{id}", randomSeededId())
+                    .bodyValue(dto)
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+        Integer id = createdIds.poll();
+        if (id == null) {
+            return getById();
+        }
+        return webClient.delete()
+                .uri("/{id}?isHard=true", id)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private Mono<?> getById() {
+        return webClient.get()
+                .uri("/{id}", randomSeededId())
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private Integer randomSeededId() {
+        return seededIds.get(ThreadLocalRandom.current().nextInt(seededIds.size()));
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.qareactive.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+// same traffic mix, rate and SLO gates as the R2DBC run, served by the JDBC service on virtual threads
+@ActiveProfiles("jdbc")
+public class LoadJdbcDeveloperRestControllerV1Tests extends LoadDeveloperRestControllerV1Tests {
+}
@@ -0,0 +1,46 @@
+package com.example.qareactive.metrics;
+
+import com.example.qareactive.exception.DeveloperNotFoundException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeveloperMetricsTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DeveloperMetrics developerMetrics = new DeveloperMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("Test repeated operations record into one timer per outcome functionality")
+    public void givenRepeatedOperations_whenTimeService_thenOneTimerPerTagCombination() {
+        //given
+        Mono<Integer> found = developerMetrics.timeService("getById", Mono.just(1));
+        Mono<Integer> notFound = developerMetrics.timeService("getById", Mono.error(DeveloperNotFoundException.INSTANCE));
+        Flux<Integer> all = developerMetrics.timeService("getAll", Flux.just(1, 2));
+        //when
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(found).expectNext(1).verifyComplete();
+        }
+        StepVerifier.create(notFound).expectError(DeveloperNotFoundException.class).verify();
+        StepVerifier.create(all).expectNext(1, 2).verifyComplete();
+        //then
+        assertThat(timer("getById", "success", "none").count()).isEqualTo(3);
+        assertThat(timer("getById", "error", DeveloperNotFoundException.INSTANCE.getErrorCode()).count()).isEqualTo(1);
+        assertThat(timer("getAll", "success", "none").count()).isEqualTo(1);
+        assertThat(meterRegistry.find("developers.service").timers()).hasSize(3);
+    }
+
+    private Timer timer(String operation, String outcome, String code) {
+        return meterRegistry.get("developers.service")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("code", code)
+                .timer();
+    }
+}
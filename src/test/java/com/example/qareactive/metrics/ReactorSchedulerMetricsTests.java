@@ -0,0 +1,49 @@
+package com.example.qareactive.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReactorSchedulerMetricsTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReactorSchedulerMetrics schedulerMetrics = new ReactorSchedulerMetrics(meterRegistry);
+
+    @BeforeEach
+    public void setUp() {
+        schedulerMetrics.afterPropertiesSet();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        schedulerMetrics.destroy();
+    }
+
+    @Test
+    @DisplayName("Test scheduler executors share one set of meters that drops them on shutdown functionality")
+    public void givenSchedulerWithSeveralExecutors_whenDisposed_thenOneMeterSetAndNoLiveExecutors() throws Exception {
+        //given
+        Scheduler scheduler = Schedulers.newParallel("metrics-test", 3);
+        scheduler.schedule(() -> {
+        });
+        Gauge executors = meterRegistry.get("reactor.scheduler.executors").gauge();
+        double liveBeforeDispose = executors.value();
+        //when
+        scheduler.disposeGracefully().block(Duration.ofSeconds(5));
+        //then
+        assertThat(liveBeforeDispose).isEqualTo(3);
+        assertThat(meterRegistry.find("reactor.scheduler.executors").gauges()).hasSize(1);
+        assertThat(meterRegistry.find("reactor.scheduler.active").gauges()).hasSize(1);
+        assertThat(executors.value()).isZero();
+        assertThat(meterRegistry.get("reactor.scheduler.completed").functionCounter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.qareactive.repository;
+
+import com.example.qareactive.config.DeveloperLoaderProperties;
+import com.example.qareactive.deadline.QueryCancellation;
+import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.util.DataUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+public class DeveloperBatchLoaderTests {
+
+    private static final Duration WINDOW = Duration.ofMillis(2);
+
+    private final DeveloperRepository developerRepository = Mockito.mock(DeveloperRepository.class);
+    private VirtualTimeScheduler scheduler;
+    private DeveloperBatchLoader loader;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = VirtualTimeScheduler.getOrSet();
+        BDDMockito.given(developerRepository.findAllByIds(any())).willAnswer(invocation -> Flux.fromArray(invocation.<Integer[]>getArgument(0))
+                .filter(id -> id != 404)
+                .map(DeveloperBatchLoaderTests::developer));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        loader.destroy();
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    @DisplayName("Test loads within one window share one query functionality")
+    public void givenLoadsWithinWindow_whenWindowElapses_thenOneQueryForAllIds() {
+        //given
+        loader = loader(100);
+        //when
+        //then
+        StepVerifier.create(Mono.zip(loader.load(1), loader.load(2)))
+                .then(() -> BDDMockito.then(developerRepository).shouldHaveNoInteractions())
+                .then(() -> scheduler.advanceTimeBy(WINDOW))
+                .assertNext(developers -> {
+                    assertThat(developers.getT1().getId()).isEqualTo(1);
+                    assertThat(developers.getT2().getId()).isEqualTo(2);
+                })
+                .verifyComplete();
+        assertThat(queriedIds()).containsExactly(List.of(1, 2));
+    }
+
+    @Test
+    @DisplayName("Test full batch is flushed before the window functionality")
+    public void givenMaxBatchSizeReached_whenLoad_thenQueriedWithoutWaitingForWindow() {
+        //given
+        loader = loader(2);
+        //when
+        //then
+        StepVerifier.create(Mono.zip(loader.load(1), loader.load(2)))
+                .assertNext(developers -> {
+                    assertThat(developers.getT1().getId()).isEqualTo(1);
+                    assertThat(developers.getT2().getId()).isEqualTo(2);
+                })
+                .verifyComplete();
+        assertThat(queriedIds()).containsExactly(List.of(1, 2));
+    }
+
+    @Test
+    @DisplayName("Test duplicate ids are queried once functionality")
+    public void givenSameIdLoadedTwice_whenWindowElapses_thenIdQueriedOnceAndBothResolved() {
+        //given
+        loader = loader(100);
+        //when
+        //then
+        StepVerifier.create(Mono.zip(loader.load(1), loader.load(1)))
+                .then(() -> scheduler.advanceTimeBy(WINDOW))
+                .assertNext(developers -> {
+                    assertThat(developers.getT1().getId()).isEqualTo(1);
+                    assertThat(developers.getT2().getId()).isEqualTo(1);
+                })
+                .verifyComplete();
+        assertThat(queriedIds()).containsExactly(List.of(1));
+    }
+
+    @Test
+    @DisplayName("Test missing id completes empty functionality")
+    public void givenMissingId_whenWindowElapses_thenEmpty() {
+        //given
+        loader = loader(100);
+        //when
+        //then
+        StepVerifier.create(loader.load(404))
+                .then(() -> scheduler.advanceTimeBy(WINDOW))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test query error fails every waiter in the batch functionality")
+    public void givenQueryError_whenWindowElapses_thenAllWaitersFail() {
+        //given
+        loader = loader(100);
+        IllegalStateException failure = new IllegalStateException("connection lost");
+        BDDMockito.given(developerRepository.findAllByIds(any())).willReturn(Flux.error(failure));
+        List<Throwable> errors = new ArrayList<>();
+        loader.load(1).subscribe(developer -> {
+        }, errors::add);
+        loader.load(2).subscribe(developer -> {
+        }, errors::add);
+        //when
+        scheduler.advanceTimeBy(WINDOW);
+        //then
+        assertThat(errors).containsExactly(failure, failure);
+    }
+
+    @Test
+    @DisplayName("Test batch query is cancelled once every waiter gives up functionality")
+    public void givenWaitersWithCancellations_whenEachGivesUp_thenBatchCancelledAfterTheLast() {
+        //given
+        loader = loader(100);
+        AtomicBoolean batchCancelled = new AtomicBoolean();
+        BDDMockito.given(developerRepository.findAllByIds(any())).willReturn(Flux.deferContextual(context -> {
+            QueryCancellation.from(context).register(() -> batchCancelled.set(true));
+            return Flux.never();
+        }));
+        QueryCancellation first = new QueryCancellation();
+        QueryCancellation second = new QueryCancellation();
+        loader.load(1).contextWrite(QueryCancellation.with(first)).subscribe();
+        loader.load(2).contextWrite(QueryCancellation.with(second)).subscribe();
+        scheduler.advanceTimeBy(WINDOW);
+        //when
+        first.cancel();
+        boolean cancelledWhileSecondWaits = batchCancelled.get();
+        second.cancel();
+        //then
+        assertThat(cancelledWhileSecondWaits).isFalse();
+        assertThat(batchCancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test waiter that gave up before the batch ran does not cancel it for the others functionality")
+    public void givenWaiterGaveUpBeforeFlush_whenWindowElapses_thenBatchServesTheOthers() {
+        //given
+        loader = loader(100);
+        AtomicBoolean batchCancelled = new AtomicBoolean();
+        BDDMockito.given(developerRepository.findAllByIds(any())).willAnswer(invocation -> Flux.deferContextual(context -> {
+            QueryCancellation.from(context).register(() -> batchCancelled.set(true));
+            return Flux.fromArray(invocation.<Integer[]>getArgument(0)).map(DeveloperBatchLoaderTests::developer);
+        }));
+        QueryCancellation gaveUp = new QueryCancellation();
+        loader.load(1).contextWrite(QueryCancellation.with(gaveUp)).subscribe();
+        gaveUp.cancel();
+        //when
+        //then
+        StepVerifier.create(loader.load(2))
+                .then(() -> scheduler.advanceTimeBy(WINDOW))
+                .assertNext(developer -> assertThat(developer.getId()).isEqualTo(2))
+                .verifyComplete();
+        assertThat(batchCancelled).isFalse();
+        assertThat(queriedIds()).containsExactly(List.of(1, 2));
+    }
+
+    private DeveloperBatchLoader loader(int maxBatchSize) {
+        DeveloperLoaderProperties properties = new DeveloperLoaderProperties();
+        properties.setWindow(WINDOW);
+        properties.setMaxBatchSize(maxBatchSize);
+        return new DeveloperBatchLoader(developerRepository, properties, new SimpleMeterRegistry());
+    }
+
+    private List<List<Integer>> queriedIds() {
+        ArgumentCaptor<Integer[]> ids = ArgumentCaptor.forClass(Integer[].class);
+        BDDMockito.then(developerRepository).should(Mockito.atLeastOnce()).findAllByIds(ids.capture());
+        return ids.getAllValues().stream()
+                .map(Arrays::asList)
+                .toList();
+    }
+
+    private static DeveloperEntity developer(Integer id) {
+        DeveloperEntity developer = DataUtils.getDeveloperTransient(id);
+        developer.setId(id);
+        return developer;
+    }
+}
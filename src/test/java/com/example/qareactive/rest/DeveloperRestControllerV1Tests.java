@@ -1,9 +1,24 @@
 package com.example.qareactive.rest;
 
+import com.example.qareactive.codec.DeveloperJson;
+import com.example.qareactive.config.DeveloperChangesProperties;
+import com.example.qareactive.config.DeveloperConcurrencyLimitProperties;
+import com.example.qareactive.config.DeveloperDeadlineProperties;
+import com.example.qareactive.config.DeveloperPaginationProperties;
+import com.example.qareactive.config.DeveloperRateLimitProperties;
+import com.example.qareactive.dto.DeveloperChangeDto;
 import com.example.qareactive.dto.DeveloperDto;
 import com.example.qareactive.entity.DeveloperEntity;
+import com.example.qareactive.entity.Status;
 import com.example.qareactive.exception.DeveloperNotFoundException;
+import com.example.qareactive.exception.DeveloperValidationException;
+import com.example.qareactive.exception.DeveloperVersionMismatchException;
 import com.example.qareactive.exception.DeveloperWithEmailAlreadyExistsException;
+import com.example.qareactive.notification.DeveloperChangeEvent;
+import com.example.qareactive.notification.DeveloperChangeOperation;
+import com.example.qareactive.repository.DeveloperSearchResult;
+import com.example.qareactive.repository.DeveloperSpecialtyStats;
+import com.example.qareactive.service.DeveloperBatchItem;
 import com.example.qareactive.service.DeveloperService;
 import com.example.qareactive.util.DataUtils;
 import org.junit.jupiter.api.DisplayName;
@@ -12,19 +27,35 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ComponentScan({"com.example.qareactive.errorhandling"})
 @ExtendWith(SpringExtension.class)
+@EnableConfigurationProperties({DeveloperPaginationProperties.class, DeveloperChangesProperties.class,
+        DeveloperRateLimitProperties.class, DeveloperConcurrencyLimitProperties.class, DeveloperDeadlineProperties.class})
 @WebFluxTest(controllers = DeveloperRestControllerV1.class)
 public class DeveloperRestControllerV1Tests {
 
@@ -80,6 +111,38 @@ public class DeveloperRestControllerV1Tests {
                 .jsonPath("$.errors[0].message").isEqualTo("Developer with defined email already exists");
     }
 
+    @Test
+    @DisplayName("Test batch create developers functionality")
+    public void givenDeveloperDtos_whenCreateDevelopers_thenPerItemResponse() {
+        //given
+        DeveloperDto johnDoe = DataUtils.getJohnDoeDtoTransient();
+        DeveloperDto duplicate = DataUtils.getJohnDoeDtoTransient();
+
+        DeveloperEntity entity = DataUtils.getJohnDoePersisted();
+        BDDMockito.given(developerService.createDevelopers(any()))
+                .willReturn(Flux.just(
+                        DeveloperBatchItem.success(0, entity),
+                        DeveloperBatchItem.failure(1, new DeveloperWithEmailAlreadyExistsException("Developer with defined email already exists", "DEVELOPER_DUPLICATE_EMAIL"))));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Flux.just(johnDoe, duplicate), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.size()").isEqualTo(2)
+                .jsonPath("$[0].index").isEqualTo(0)
+                .jsonPath("$[0].status").isEqualTo(200)
+                .jsonPath("$[0].developer.id").isEqualTo(1)
+                .jsonPath("$[1].index").isEqualTo(1)
+                .jsonPath("$[1].status").isEqualTo(400)
+                .jsonPath("$[1].errors[0].code").isEqualTo("DEVELOPER_DUPLICATE_EMAIL")
+                .jsonPath("$[1].errors[0].message").isEqualTo("Developer with defined email already exists");
+    }
+
     @Test
     @DisplayName("Test update developer functionality")
     public void givenDeveloperDto_whenUpdateDeveloper_thenSuccessResponse() {
@@ -127,6 +190,60 @@ public class DeveloperRestControllerV1Tests {
     }
 
 
+    @Test
+    @DisplayName("Test patch developer functionality")
+    public void givenPartialDeveloperDto_whenPatchDeveloper_thenSuccessResponse() {
+        //given
+        DeveloperDto dto = DeveloperDto.builder()
+                .specialty("Kotlin")
+                .build();
+
+        DeveloperEntity entity = DataUtils.getJohnDoePersisted();
+        entity.setSpecialty("Kotlin");
+        entity.setVersion(3L);
+        BDDMockito.given(developerService.patchDeveloper(eq(1), any(DeveloperEntity.class), eq(2L)))
+                .willReturn(Mono.just(entity));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.patch()
+                .uri("/api/v1/developers/1")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(dto), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.firstName").isEqualTo("John")
+                .jsonPath("$.specialty").isEqualTo("Kotlin");
+    }
+
+    @Test
+    @DisplayName("Test patch developer with stale version functionality")
+    public void givenStaleIfMatch_whenPatchDeveloper_thenExceptionResponse() {
+        //given
+        DeveloperDto dto = DeveloperDto.builder()
+                .specialty("Kotlin")
+                .build();
+        BDDMockito.given(developerService.patchDeveloper(anyInt(), any(DeveloperEntity.class), any()))
+                .willThrow(new DeveloperVersionMismatchException("Developer version does not match", "DEVELOPER_VERSION_MISMATCH"));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.patch()
+                .uri("/api/v1/developers/1")
+                .header(HttpHeaders.IF_MATCH, "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(dto), DeveloperDto.class)
+                .exchange();
+        //then
+        result.expectStatus().isEqualTo(412)
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_VERSION_MISMATCH")
+                .jsonPath("$.errors[0].message").isEqualTo("Developer version does not match");
+    }
+
     @Test
     @DisplayName("Test get all developers functionality")
     public void givenThreeDevelopers_whenGetAllDevelopers_thenSuccessResponse() {
@@ -135,7 +252,7 @@ public class DeveloperRestControllerV1Tests {
         DeveloperEntity e2 = DataUtils.getFrankJonesPersisted();
         DeveloperEntity e3 = DataUtils.getMikeSmithPersisted();
 
-        BDDMockito.given(developerService.getAll())
+        BDDMockito.given(developerService.getAll(anyInt(), anyInt()))
                 .willReturn(Flux.just(e1, e2, e3));
         //when
         WebTestClient.ResponseSpec result = webTestClient.get()
@@ -143,11 +260,278 @@ public class DeveloperRestControllerV1Tests {
                 .exchange();
         //then
         result.expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.LINK)
                 .expectBody()
                 .consumeWith(System.out::println)
                 .jsonPath("$.size()").isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("Test get developers page with next link functionality")
+    public void givenFullPage_whenGetAllDevelopers_thenNextLinkIsReturned() {
+        //given
+        DeveloperEntity e1 = DataUtils.getJohnDoePersisted();
+        DeveloperEntity e2 = DataUtils.getMikeSmithPersisted();
+
+        BDDMockito.given(developerService.getAll(0, 2))
+                .willReturn(Flux.just(e1, e2));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers?limit=2")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.LINK, ".*after=" + Pagination.encodeToken(e2.getId()) + ".*rel=\"next\"")
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.size()").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test get developers page with invalid token functionality")
+    public void givenInvalidPageToken_whenGetAllDevelopers_thenExceptionResponse() {
+        //given
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers?after=not-a-token")
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("INVALID_PAGE_TOKEN");
+    }
+
+    @Test
+    @DisplayName("Test stream all developers as ndjson functionality")
+    public void givenThreeDevelopers_whenStreamAllDevelopers_thenNdjsonResponse() {
+        //given
+        DeveloperEntity e1 = DataUtils.getJohnDoePersisted();
+        DeveloperEntity e2 = DataUtils.getFrankJonesPersisted();
+        DeveloperEntity e3 = DataUtils.getMikeSmithPersisted();
+
+        BDDMockito.given(developerService.streamAllNdjson(any(DataBufferFactory.class)))
+                .willAnswer(invocation -> Flux.just(e1, e2, e3)
+                        .map(developer -> DeveloperJson.toNdjson(invocation.getArgument(0), developer)));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(DeveloperDto.class)
+                .hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Test stream developer changes as ndjson functionality")
+    public void givenChangeEvents_whenStreamChangesAsNdjson_thenNdjsonResponse() {
+        //given
+        DeveloperEntity e1 = DataUtils.getJohnDoePersisted();
+
+        BDDMockito.given(developerService.getChanges())
+                .willReturn(Flux.just(
+                        DeveloperChangeEvent.builder().operation(DeveloperChangeOperation.CREATE).id(e1.getId()).developer(e1).build(),
+                        DeveloperChangeEvent.builder().operation(DeveloperChangeOperation.HARD_DELETE).id(e1.getId()).build()));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/changes")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(DeveloperChangeDto.class)
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Test stream developer changes as server-sent events functionality")
+    public void givenChangeEvent_whenStreamChangesAsServerSentEvents_thenEventIsPushed() {
+        //given
+        DeveloperEntity e1 = DataUtils.getJohnDoePersisted();
+
+        BDDMockito.given(developerService.getChanges())
+                .willReturn(Flux.just(DeveloperChangeEvent.builder().operation(DeveloperChangeOperation.CREATE).id(e1.getId()).developer(e1).build()));
+        //when
+        Flux<ServerSentEvent<DeveloperChangeDto>> result = webTestClient.get()
+                .uri("/api/v1/developers/changes")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<DeveloperChangeDto>>() {
+                })
+                .getResponseBody();
+        //then
+        StepVerifier.create(result.filter(event -> event.data() != null))
+                .expectNextMatches(event -> "CREATE".equals(event.event())
+                        && event.data().getId().equals(e1.getId())
+                        && event.data().getDeveloper().getEmail().equals(e1.getEmail()))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Test search developers functionality")
+    public void givenFullSearchPage_whenSearch_thenRankedDevelopersAndNextLinkAreReturned() {
+        //given
+        DeveloperEntity e1 = DataUtils.getJohnDoePersisted();
+        DeveloperEntity e2 = DataUtils.getMikeSmithPersisted();
+
+        BDDMockito.given(developerService.search("doe", Float.POSITIVE_INFINITY, 0, 2))
+                .willReturn(Flux.just(new DeveloperSearchResult(e1, 1.0f), new DeveloperSearchResult(e2, 0.5f)));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/search?q=doe&limit=2")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.LINK, ".*after=" + Pagination.encodeToken(0.5f, e2.getId()) + ".*rel=\"next\"")
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.size()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo(e1.getId())
+                .jsonPath("$[1].id").isEqualTo(e2.getId());
+    }
+
+    @Test
+    @DisplayName("Test search developers with too short query functionality")
+    public void givenTooShortQuery_whenSearch_thenExceptionResponse() {
+        //given
+        BDDMockito.given(developerService.search(eq("d"), anyFloat(), anyInt(), anyInt()))
+                .willReturn(Flux.error(DeveloperValidationException.SEARCH_QUERY_TOO_SHORT));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/search?q=d")
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_SEARCH_QUERY_TOO_SHORT");
+    }
+
+    @Test
+    @DisplayName("Test get specialty stats functionality")
+    public void givenSpecialtyStats_whenGetSpecialtyStats_thenCountsAreReturned() {
+        //given
+        BDDMockito.given(developerService.getSpecialtyStats(Status.ACTIVE))
+                .willReturn(Flux.just(new DeveloperSpecialtyStats("Java", "ACTIVE", 2),
+                        new DeveloperSpecialtyStats("Kotlin", "ACTIVE", 1)));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/stats?status=ACTIVE")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.size()").isEqualTo(2)
+                .jsonPath("$[0].specialty").isEqualTo("Java")
+                .jsonPath("$[0].status").isEqualTo("ACTIVE")
+                .jsonPath("$[0].count").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test get specialty stats with unknown status functionality")
+    public void givenUnknownStatus_whenGetSpecialtyStats_thenBadRequestIsReturned() {
+        //given
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/stats?status=RETIRED")
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_STATUS_INVALID");
+        BDDMockito.then(developerService).should(BDDMockito.never()).getSpecialtyStats(any());
+    }
+
+    @Test
+    @DisplayName("Test export developers as csv functionality")
+    public void givenDevelopers_whenExportDevelopers_thenCsvIsStreamed() {
+        //given
+        BDDMockito.given(developerService.exportCsv())
+                .willReturn(Flux.just("id,email\n", "1,john.doe@mail.com\n")
+                        .map(line -> DefaultDataBufferFactory.sharedInstance.wrap(line.getBytes(StandardCharsets.UTF_8))));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/export")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("text/csv")
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"developers.csv\"")
+                .expectBody(String.class).isEqualTo("id,email\n1,john.doe@mail.com\n");
+    }
+
+    @Test
+    @DisplayName("Test import developers from csv functionality")
+    public void givenCsv_whenImportDevelopers_thenImportedCountIsReturned() {
+        //given
+        BDDMockito.given(developerService.importCsv(any()))
+                .willAnswer(invocation -> invocation.<Flux<DataBuffer>>getArgument(0)
+                        .doOnNext(DataBufferUtils::release)
+                        .then(Mono.just(2L)));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue("email,first_name,last_name,specialty,status\n" +
+                        "john.doe@mail.com,John,Doe,Java,ACTIVE\n" +
+                        "mike.smith@mail.com,Mike,Smith,Java,ACTIVE\n")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.imported").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test import developers from invalid csv functionality")
+    public void givenInvalidCsv_whenImportDevelopers_thenExceptionResponse() {
+        //given
+        BDDMockito.given(developerService.importCsv(any()))
+                .willReturn(Mono.error(DeveloperValidationException.INVALID_IMPORT));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue("not,a,developer\n")
+                .exchange();
+        //then
+        result.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_IMPORT_INVALID");
+    }
+
+    @Test
+    @DisplayName("Test get active developers by specialty functionality")
+    public void givenSpecialty_whenGetAllBySpecialty_thenSuccessResponse() {
+        //given
+        DeveloperEntity e1 = DataUtils.getJohnDoePersisted();
+        DeveloperEntity e2 = DataUtils.getMikeSmithPersisted();
+
+        BDDMockito.given(developerService.findAllActiveBySpecialty("Java", 0, 2))
+                .willReturn(Flux.just(e1, e2));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/specialty/Java?limit=2")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.LINK, ".*after=" + Pagination.encodeToken(e2.getId()) + ".*rel=\"next\"")
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.size()").isEqualTo(2)
+                .jsonPath("$[0].specialty").isEqualTo("Java");
+    }
+
     @Test
     @DisplayName("Test get developer by id functionality")
     public void givenId_whenGetById_thenDeveloperIsReturned() {
@@ -170,6 +554,52 @@ public class DeveloperRestControllerV1Tests {
                 .jsonPath("$.status").isEqualTo("ACTIVE");
     }
 
+    @Test
+    @DisplayName("Test get developer by id with matching etag functionality")
+    public void givenMatchingIfNoneMatch_whenGetById_thenNotModifiedResponse() {
+        //given
+        DeveloperEntity e1 = DataUtils.getJohnDoePersisted();
+        e1.setVersion(2L);
+
+        BDDMockito.given(developerService.getById(e1.getId()))
+                .willReturn(Mono.just(e1));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"2\"")
+                .exchange();
+        //then
+        result.expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2\"")
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test get active developers by specialty with matching etag functionality")
+    public void givenMatchingIfNoneMatch_whenGetAllBySpecialty_thenNotModifiedResponse() {
+        //given
+        DeveloperEntity e1 = DataUtils.getJohnDoePersisted();
+        DeveloperEntity e2 = DataUtils.getMikeSmithPersisted();
+
+        BDDMockito.given(developerService.findAllActiveBySpecialty(eq("Java"), anyInt(), anyInt()))
+                .willReturn(Flux.just(e1, e2));
+        String etag = webTestClient.get()
+                .uri("/api/v1/developers/specialty/Java")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(DeveloperDto.class)
+                .getResponseHeaders()
+                .getETag();
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/specialty/Java")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange();
+        //then
+        result.expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
     @Test
     @DisplayName("Test get developer by incorrect id functionality")
     public void givenIncorrectId_whenGetById_thenExceptionIsThrown() {
@@ -188,6 +618,63 @@ public class DeveloperRestControllerV1Tests {
                 .jsonPath("$.errors[0].message").isEqualTo("Developer not found");
     }
 
+    @Test
+    @DisplayName("Test get developer by incorrect id with preallocated error functionality")
+    public void givenIncorrectIdAndPreallocatedError_whenGetById_thenSerializedExceptionResponse() {
+        //given
+        BDDMockito.given(developerService.getById(anyInt()))
+                .willReturn(Mono.error(DeveloperNotFoundException.INSTANCE));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.get()
+                .uri("/api/v1/developers/1")
+                .exchange();
+        //then
+        result.expectStatus().isNotFound()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .consumeWith(System.out::println)
+                .json("{\"errors\":[{\"code\":\"DEVELOPER_NOT_FOUND\",\"message\":\"Developer not found\"}]}", true);
+    }
+
+    @Test
+    @DisplayName("Test restore developer by id functionality")
+    public void givenId_whenRestoreById_thenRestoredDeveloperIsReturned() {
+        //given
+        DeveloperEntity e1 = DataUtils.getJohnDoePersisted();
+        e1.setVersion(3L);
+
+        BDDMockito.given(developerService.restoreById(e1.getId()))
+                .willReturn(Mono.just(e1));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/1/restore")
+                .exchange();
+        //then
+        result.expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.status").isEqualTo("ACTIVE");
+    }
+
+    @Test
+    @DisplayName("Test restore developer by incorrect id functionality")
+    public void givenIncorrectId_whenRestoreById_thenExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerService.restoreById(anyInt()))
+                .willReturn(Mono.error(DeveloperNotFoundException.INSTANCE));
+        //when
+        WebTestClient.ResponseSpec result = webTestClient.post()
+                .uri("/api/v1/developers/1/restore")
+                .exchange();
+        //then
+        result.expectStatus().isNotFound()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errors[0].code").isEqualTo("DEVELOPER_NOT_FOUND");
+    }
+
     @Test
     @DisplayName("Test soft delete developer by id functionality")
     public void givenId_whenSoftDeleteById_thenSuccessResponse() {
@@ -0,0 +1,22 @@
+package com.example.qareactive.rest;
+
+import com.example.qareactive.config.DeveloperChangesProperties;
+import com.example.qareactive.config.DeveloperConcurrencyLimitProperties;
+import com.example.qareactive.config.DeveloperDeadlineProperties;
+import com.example.qareactive.config.DeveloperPaginationProperties;
+import com.example.qareactive.config.DeveloperRateLimitProperties;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ComponentScan({"com.example.qareactive.errorhandling"})
+@ExtendWith(SpringExtension.class)
+@EnableConfigurationProperties({DeveloperPaginationProperties.class, DeveloperChangesProperties.class,
+        DeveloperRateLimitProperties.class, DeveloperConcurrencyLimitProperties.class, DeveloperDeadlineProperties.class})
+@Import({DeveloperRouterV1.class, DeveloperHandlerV1.class})
+@WebFluxTest(properties = "app.web.mode=functional")
+public class DeveloperRouterV1Tests extends DeveloperRestControllerV1Tests {
+}
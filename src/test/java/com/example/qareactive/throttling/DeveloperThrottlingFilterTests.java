@@ -0,0 +1,191 @@
+package com.example.qareactive.throttling;
+
+import com.example.qareactive.config.DeveloperConcurrencyLimitProperties;
+import com.example.qareactive.config.DeveloperRateLimitProperties;
+import com.example.qareactive.errorhandling.AppErrorAttributes;
+import com.example.qareactive.exception.RateLimitExceededException;
+import com.example.qareactive.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeveloperThrottlingFilterTests {
+
+    private static final WebFilterChain COMPLETING_CHAIN = exchange -> Mono.empty();
+    private static final WebFilterChain HANGING_CHAIN = exchange -> Mono.never();
+
+    @Test
+    @DisplayName("Test client over its burst is rate limited functionality")
+    public void givenClientOverBurst_whenFilter_thenRateLimitedWithRetryAfter() {
+        //given
+        DeveloperThrottlingFilter filter = filter(rateLimit(2), concurrencyLimit(false, 10));
+        MockServerWebExchange third = exchange(MockServerHttpRequest.get("/api/v1/developers/1").header("X-API-Key", "client-a"));
+        //when
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/1").header("X-API-Key", "client-a")), COMPLETING_CHAIN))
+                .verifyComplete();
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/1").header("X-API-Key", "client-a")), COMPLETING_CHAIN))
+                .verifyComplete();
+        //then
+        StepVerifier.create(filter.filter(third, COMPLETING_CHAIN))
+                .expectError(RateLimitExceededException.class)
+                .verify();
+        assertThat(third.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("Test clients have separate buckets functionality")
+    public void givenExhaustedClient_whenOtherClientCalls_thenNotRateLimited() {
+        //given
+        DeveloperThrottlingFilter filter = filter(rateLimit(1), concurrencyLimit(false, 10));
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/1").header("X-API-Key", "client-a")), COMPLETING_CHAIN))
+                .verifyComplete();
+        //when
+        Mono<Void> sameClient = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/1").header("X-API-Key", "client-a")), COMPLETING_CHAIN);
+        Mono<Void> otherClient = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/1").header("X-API-Key", "client-b")), COMPLETING_CHAIN);
+        //then
+        StepVerifier.create(sameClient)
+                .expectError(RateLimitExceededException.class)
+                .verify();
+        StepVerifier.create(otherClient)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test route limit is shared by all clients functionality")
+    public void givenRouteLimit_whenDifferentClientsCallRoute_thenRateLimited() {
+        //given
+        DeveloperRateLimitProperties rateLimit = rateLimit(100);
+        DeveloperRateLimitProperties.Route search = new DeveloperRateLimitProperties.Route();
+        search.setPattern("/api/v1/developers/search");
+        search.setMethod(HttpMethod.GET);
+        search.setCapacity(1);
+        search.setRefillPerSecond(1);
+        rateLimit.setRoutes(List.of(search));
+        DeveloperThrottlingFilter filter = filter(rateLimit, concurrencyLimit(false, 10));
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/search").header("X-API-Key", "client-a")), COMPLETING_CHAIN))
+                .verifyComplete();
+        //when
+        Mono<Void> otherClientSameRoute = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/search").header("X-API-Key", "client-b")), COMPLETING_CHAIN);
+        Mono<Void> otherClientOtherRoute = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/1").header("X-API-Key", "client-b")), COMPLETING_CHAIN);
+        //then
+        StepVerifier.create(otherClientSameRoute)
+                .expectError(RateLimitExceededException.class)
+                .verify();
+        StepVerifier.create(otherClientOtherRoute)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test requests over the concurrency limit are shed functionality")
+    public void givenConcurrencyLimitReached_whenFilter_thenServiceOverloadedUntilPermitReleased() {
+        //given
+        DeveloperThrottlingFilter filter = filter(rateLimit(100), concurrencyLimit(true, 1));
+        var inflight = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/1")), HANGING_CHAIN).subscribe();
+        //when
+        Mono<Void> overLimit = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/2")), COMPLETING_CHAIN);
+        //then
+        StepVerifier.create(overLimit)
+                .expectError(ServiceOverloadedException.class)
+                .verify();
+        inflight.dispose();
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/2")), COMPLETING_CHAIN))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test streaming requests bypass the concurrency limit functionality")
+    public void givenConcurrencyLimitReached_whenStreamingRequest_thenNotShed() {
+        //given
+        DeveloperThrottlingFilter filter = filter(rateLimit(100), concurrencyLimit(true, 1));
+        var inflight = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/1")), HANGING_CHAIN).subscribe();
+        //when
+        Mono<Void> stream = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers").accept(MediaType.APPLICATION_NDJSON)), COMPLETING_CHAIN);
+        Mono<Void> changes = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/changes")), COMPLETING_CHAIN);
+        //then
+        StepVerifier.create(stream)
+                .verifyComplete();
+        StepVerifier.create(changes)
+                .verifyComplete();
+        inflight.dispose();
+    }
+
+    @Test
+    @DisplayName("Test streaming Accept header on a non-streaming route is shed functionality")
+    public void givenConcurrencyLimitReached_whenNonStreamingRouteAcceptsNdjson_thenShed() {
+        //given
+        DeveloperThrottlingFilter filter = filter(rateLimit(100), concurrencyLimit(true, 1));
+        var inflight = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/1")), HANGING_CHAIN).subscribe();
+        //when
+        Mono<Void> search = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/search?q=john")
+                .accept(MediaType.APPLICATION_NDJSON)), COMPLETING_CHAIN);
+        Mono<Void> byId = filter.filter(exchange(MockServerHttpRequest.get("/api/v1/developers/2")
+                .accept(MediaType.TEXT_EVENT_STREAM)), COMPLETING_CHAIN);
+        Mono<Void> batch = filter.filter(exchange(MockServerHttpRequest.post("/api/v1/developers")
+                .accept(MediaType.APPLICATION_NDJSON)), COMPLETING_CHAIN);
+        //then
+        StepVerifier.create(search)
+                .expectError(ServiceOverloadedException.class)
+                .verify();
+        StepVerifier.create(byId)
+                .expectError(ServiceOverloadedException.class)
+                .verify();
+        StepVerifier.create(batch)
+                .expectError(ServiceOverloadedException.class)
+                .verify();
+        inflight.dispose();
+    }
+
+    @Test
+    @DisplayName("Test shed requests are rendered as 429 and 503 functionality")
+    public void givenShedErrors_whenGetStatus_thenTooManyRequestsAndServiceUnavailable() {
+        //given
+        AppErrorAttributes appErrorAttributes = new AppErrorAttributes();
+        //when
+        HttpStatus rateLimited = appErrorAttributes.getStatus(RateLimitExceededException.INSTANCE);
+        HttpStatus overloaded = appErrorAttributes.getStatus(ServiceOverloadedException.INSTANCE);
+        //then
+        assertThat(rateLimited).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(overloaded).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(appErrorAttributes.getSerializedErrorBody(RateLimitExceededException.INSTANCE)).isNotNull();
+        assertThat(appErrorAttributes.getSerializedErrorBody(ServiceOverloadedException.INSTANCE)).isNotNull();
+    }
+
+    private static DeveloperThrottlingFilter filter(DeveloperRateLimitProperties rateLimit, DeveloperConcurrencyLimitProperties concurrencyLimit) {
+        return new DeveloperThrottlingFilter(rateLimit, concurrencyLimit, new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    private static DeveloperRateLimitProperties rateLimit(long clientCapacity) {
+        DeveloperRateLimitProperties properties = new DeveloperRateLimitProperties();
+        properties.setClientCapacity(clientCapacity);
+        properties.setClientRefillPerSecond(1);
+        return properties;
+    }
+
+    private static DeveloperConcurrencyLimitProperties concurrencyLimit(boolean enabled, int limit) {
+        DeveloperConcurrencyLimitProperties properties = new DeveloperConcurrencyLimitProperties();
+        properties.setEnabled(enabled);
+        properties.setInitialLimit(limit);
+        properties.setMinLimit(limit);
+        properties.setMaxLimit(limit);
+        properties.setExcludedPaths(List.of("/api/v1/developers/changes"));
+        return properties;
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
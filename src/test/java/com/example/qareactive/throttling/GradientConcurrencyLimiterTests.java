@@ -0,0 +1,79 @@
+package com.example.qareactive.throttling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GradientConcurrencyLimiterTests {
+
+    private static final long BASELINE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    @DisplayName("Test limit grows while latency holds at full load functionality")
+    public void givenSteadyLatencyAtLimit_whenSamples_thenLimitGrows() {
+        //given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 4, 200, 0.2, 1.5, 600);
+        //when
+        for (int i = 0; i < 50; i++) {
+            sample(limiter, BASELINE_RTT, limiter.getLimit());
+        }
+        //then
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+        assertThat(limiter.getLimit()).isLessThanOrEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Test limit shrinks when latency rises functionality")
+    public void givenLatencySpike_whenSamples_thenLimitShrinksToMinimum() {
+        //given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 4, 200, 0.2, 1.5, 600);
+        for (int i = 0; i < 100; i++) {
+            sample(limiter, BASELINE_RTT, limiter.getLimit());
+        }
+        int limitBeforeSpike = limiter.getLimit();
+        //when
+        for (int i = 0; i < 100; i++) {
+            sample(limiter, BASELINE_RTT * 20, limiter.getLimit());
+        }
+        //then
+        assertThat(limiter.getLimit()).isLessThan(limitBeforeSpike);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Test light load leaves the limit alone functionality")
+    public void givenFewInflight_whenSlowSamples_thenLimitUnchanged() {
+        //given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 4, 200, 0.2, 1.5, 600);
+        sample(limiter, BASELINE_RTT, 1);
+        //when
+        sample(limiter, BASELINE_RTT * 20, 1);
+        //then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Test acquire beyond the limit is rejected functionality")
+    public void givenLimitReached_whenTryAcquire_thenRejectedUntilRelease() {
+        //given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(2, 2, 2, 0.2, 1.5, 600);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        //when
+        int rejected = limiter.tryAcquire();
+        limiter.release();
+        int admitted = limiter.tryAcquire();
+        //then
+        assertThat(rejected).isEqualTo(GradientConcurrencyLimiter.REJECTED);
+        assertThat(admitted).isEqualTo(2);
+        assertThat(limiter.getInflight()).isEqualTo(2);
+    }
+
+    private static void sample(GradientConcurrencyLimiter limiter, long rttNanos, int inflight) {
+        limiter.tryAcquire();
+        limiter.release(rttNanos, inflight);
+    }
+}
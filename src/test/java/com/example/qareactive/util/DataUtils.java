@@ -35,6 +35,16 @@ public class DataUtils {
                 .build();
     }
 
+    public static DeveloperEntity getDeveloperTransient(int index) {
+        return DeveloperEntity.builder()
+                .firstName("First" + index)
+                .lastName("Last" + index)
+                .email("developer" + index + "@mail.com")
+                .specialty("Specialty" + (index % 20))
+                .status(Status.ACTIVE)
+                .build();
+    }
+
     public static DeveloperEntity getJohnDoePersisted() {
         return DeveloperEntity.builder()
                 .id(1)